@@ -0,0 +1,111 @@
+package com.romulo.hawkbit.mcp.bench;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import com.romulo.hawkbit.mcp.HawkbitMcpServerApplication;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+
+/**
+ * Full tool calls through the application context (tool dispatch, Feign proxies, OkHttp, JSON in both directions)
+ * against {@link HawkbitStub}. The MCP transport itself is disabled; tools are invoked through their specifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    private HawkbitStub stub;
+    private ConfigurableApplicationContext context;
+    private SyncToolSpecification getTargets;
+    private SyncToolSpecification getTargetDetails;
+    private CallToolRequest getTargetsRequest;
+    private CallToolRequest getTargetsTableRequest;
+    private CallToolRequest getTargetDetailsRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new HawkbitStub();
+        context = new SpringApplicationBuilder(HawkbitMcpServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--hawkbit.server.mgmt-url=" + stub.url(),
+                        "--spring.ai.mcp.server.enabled=false",
+                        "--spring.ai.mcp.server.stdio=false",
+                        "--spring.ai.mcp.server.type=SYNC");
+        ObjectProvider<List<SyncToolSpecification>> provider = context.getBeanProvider(
+                ResolvableType.forClassWithGenerics(List.class, SyncToolSpecification.class));
+        List<SyncToolSpecification> specifications = provider.getObject();
+        getTargets = find(specifications, "getTargets");
+        getTargetDetails = find(specifications, "getTargetDetails");
+
+        getTargetsRequest = new CallToolRequest("getTargets", Map.of("offset", 0, "limit", 50));
+        getTargetsTableRequest = new CallToolRequest("getTargets", Map.of("offset", 0, "limit", 50,
+                "fields", "controllerId,name,updateStatus,pollStatus.overdue", "format", "TABLE"));
+        getTargetDetailsRequest = new CallToolRequest("getTargetDetails", Map.of(
+                "controllerId", Fixtures.controllerId(42),
+                "includeAttributes", true,
+                "includeTags", true,
+                "includeDistributionSets", true));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public CallToolResult getTargets() {
+        return getTargets.callHandler().apply(null, getTargetsRequest);
+    }
+
+    @Benchmark
+    public CallToolResult getTargetsTable() {
+        return getTargets.callHandler().apply(null, getTargetsTableRequest);
+    }
+
+    @Benchmark
+    public CallToolResult getTargetDetails() {
+        return getTargetDetails.callHandler().apply(null, getTargetDetailsRequest);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CallToolResult getTargetDetailsConcurrent() {
+        return getTargetDetails.callHandler().apply(null, getTargetDetailsRequest);
+    }
+
+    private static SyncToolSpecification find(final List<SyncToolSpecification> specifications, final String name) {
+        return specifications.stream()
+                .filter(specification -> specification.tool().name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Tool not registered: " + name));
+    }
+}
@@ -0,0 +1,154 @@
+package com.romulo.hawkbit.mcp.bench;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Synthetic but realistically sized hawkBit management API payloads, shared by the benchmarks and the HTTP stub.
+ */
+final class Fixtures {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final String[] UPDATE_STATUSES = { "in_sync", "pending", "error", "registered", "unknown" };
+    private static final String[] ACTION_STATUSES = { "finished", "running", "error", "canceled", "scheduled" };
+
+    private Fixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    static ObjectNode target(final ObjectMapper mapper, final int i) {
+        ObjectNode target = mapper.createObjectNode();
+        target.put("controllerId", controllerId(i));
+        target.put("name", "Device " + i);
+        target.put("description", "Benchmark device " + i + " in building " + (i % 17));
+        target.put("address", "http://10.0." + (i / 250) % 250 + "." + i % 250);
+        target.put("ipAddress", "10.0." + (i / 250) % 250 + "." + i % 250);
+        target.put("securityToken", "4e9c1f2b8a7d" + Integer.toHexString(i));
+        target.put("updateStatus", UPDATE_STATUSES[i % UPDATE_STATUSES.length]);
+        target.put("targetType", 1 + i % 3);
+        target.put("targetTypeName", "gateway-v" + (1 + i % 3));
+        target.put("requestAttributes", i % 7 == 0);
+        target.put("autoConfirmActive", false);
+        target.put("installedAt", NOW - i * 60_000L);
+        target.put("lastControllerRequestAt", NOW - i * 1_000L);
+        ObjectNode pollStatus = target.putObject("pollStatus");
+        pollStatus.put("lastRequestAt", NOW - i * 1_000L);
+        pollStatus.put("nextExpectedRequestAt", NOW + 300_000L);
+        pollStatus.put("overdue", i % 11 == 0);
+        audit(target, i);
+        return target;
+    }
+
+    static ObjectNode action(final ObjectMapper mapper, final int i) {
+        ObjectNode action = mapper.createObjectNode();
+        action.put("id", 10_000L + i);
+        action.put("type", i % 9 == 0 ? "cancel" : "update");
+        action.put("status", ACTION_STATUSES[i % ACTION_STATUSES.length]);
+        action.put("detailStatus", ACTION_STATUSES[i % ACTION_STATUSES.length]);
+        action.put("forceType", "soft");
+        action.put("weight", 500);
+        action.put("rollout", 1 + i % 4);
+        action.put("rolloutName", "rollout-" + (1 + i % 4));
+        action.put("lastStatusCode", 200);
+        audit(action, i);
+        return action;
+    }
+
+    static ObjectNode rolloutGroup(final ObjectMapper mapper, final int i) {
+        ObjectNode group = mapper.createObjectNode();
+        group.put("id", 100L + i);
+        group.put("name", "group-" + i);
+        group.put("description", "Rollout group " + i);
+        group.put("status", i % 4 == 0 ? "running" : "finished");
+        group.put("targetPercentage", 10.0f);
+        group.put("totalTargets", 250);
+        ObjectNode perStatus = group.putObject("totalTargetsPerStatus");
+        perStatus.put("notstarted", 0);
+        perStatus.put("scheduled", 0);
+        perStatus.put("running", i % 4 == 0 ? 40 : 0);
+        perStatus.put("finished", i % 4 == 0 ? 200 : 245);
+        perStatus.put("error", 5);
+        perStatus.put("cancelled", i % 4 == 0 ? 5 : 0);
+        ObjectNode success = group.putObject("successCondition");
+        success.put("condition", "THRESHOLD");
+        success.put("expression", "95");
+        ObjectNode error = group.putObject("errorCondition");
+        error.put("condition", "THRESHOLD");
+        error.put("expression", "5");
+        audit(group, i);
+        return group;
+    }
+
+    static ObjectNode distributionSet(final ObjectMapper mapper, final long id) {
+        ObjectNode ds = mapper.createObjectNode();
+        ds.put("id", id);
+        ds.put("name", "firmware");
+        ds.put("version", "2.4." + id);
+        ds.put("type", "os_app");
+        ds.put("typeName", "OS with app(s)");
+        ds.put("complete", true);
+        ds.put("locked", true);
+        ds.put("requiredMigrationStep", false);
+        ArrayNode modules = ds.putArray("modules");
+        for (int m = 0; m < 2; m++) {
+            ObjectNode module = modules.addObject();
+            module.put("id", id * 10 + m);
+            module.put("name", m == 0 ? "os" : "app");
+            module.put("version", "2.4." + id);
+            module.put("type", m == 0 ? "os" : "application");
+            module.put("vendor", "ACME");
+        }
+        audit(ds, (int) id);
+        return ds;
+    }
+
+    static ObjectNode page(final ObjectMapper mapper, final ArrayNode content, final long total) {
+        ObjectNode page = mapper.createObjectNode();
+        page.set("content", content);
+        page.put("total", total);
+        page.put("size", content.size());
+        return page;
+    }
+
+    static ObjectNode targetPage(final ObjectMapper mapper, final int offset, final int size, final long total) {
+        ArrayNode content = mapper.createArrayNode();
+        for (int i = offset; i < offset + size; i++) {
+            content.add(target(mapper, i));
+        }
+        return page(mapper, content, total);
+    }
+
+    static ObjectNode actionPage(final ObjectMapper mapper, final int size) {
+        ArrayNode content = mapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            content.add(action(mapper, i));
+        }
+        return page(mapper, content, size);
+    }
+
+    static ObjectNode rolloutGroupPage(final ObjectMapper mapper, final int size) {
+        ArrayNode content = mapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            content.add(rolloutGroup(mapper, i));
+        }
+        return page(mapper, content, size);
+    }
+
+    static String controllerId(final int i) {
+        return "device-%06d".formatted(i);
+    }
+
+    private static void audit(final ObjectNode node, final int i) {
+        node.put("createdBy", "bumlux");
+        node.put("createdAt", NOW - 86_400_000L - i);
+        node.put("lastModifiedBy", "bumlux");
+        node.put("lastModifiedAt", NOW - i);
+    }
+}
@@ -0,0 +1,104 @@
+package com.romulo.hawkbit.mcp.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the hawkBit management API, serving the target endpoints used by {@code getTargets} and
+ * {@code getTargetDetails}. Responses are rendered once and then served from memory, so the benchmark measures the
+ * MCP server rather than the stub.
+ */
+final class HawkbitStub implements AutoCloseable {
+
+    private static final String TARGETS = "/rest/v1/targets";
+    private static final long TOTAL_TARGETS = 100_000;
+
+    private final ObjectMapper mapper = Fixtures.objectMapper();
+    private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+    private final HttpServer server;
+
+    HawkbitStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(TARGETS, this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            byte[] body = responses.computeIfAbsent(uri.getPath() + "?" + uri.getRawQuery(), key -> render(uri));
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/hal+json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] render(final URI uri) {
+        String[] path = uri.getPath().substring(TARGETS.length()).split("/");
+        try {
+            if (path.length <= 1) {
+                Map<String, String> query = query(uri.getRawQuery());
+                int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+                int limit = Integer.parseInt(query.getOrDefault("limit", "50"));
+                return mapper.writeValueAsBytes(Fixtures.targetPage(mapper, offset, limit, TOTAL_TARGETS));
+            }
+            int index = Integer.parseInt(path[1].substring(path[1].lastIndexOf('-') + 1));
+            if (path.length == 2) {
+                return mapper.writeValueAsBytes(Fixtures.target(mapper, index));
+            }
+            return switch (path[2]) {
+                case "attributes" -> mapper.writeValueAsBytes(Map.of(
+                        "hw.revision", "rev-" + index % 4,
+                        "sw.bootloader", "1.0." + index % 9,
+                        "network.mac", "00:1b:44:11:3a:" + "%02x".formatted(index % 256)));
+                case "tags" -> mapper.writeValueAsBytes(mapper.createArrayNode()
+                        .add(mapper.createObjectNode().put("id", 1).put("name", "production").put("colour", "#00ff00")));
+                case "assignedDS" -> mapper.writeValueAsBytes(Fixtures.distributionSet(mapper, 2));
+                case "installedDS" -> mapper.writeValueAsBytes(Fixtures.distributionSet(mapper, 1));
+                default -> null;
+            };
+        } catch (JsonProcessingException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> query(final String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    query.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return query;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.romulo.hawkbit.mcp.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
+import org.eclipse.hawkbit.mgmt.json.model.rollout.MgmtRolloutGroupResponseBody;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+
+/**
+ * Cost of turning hawkBit models into the JSON text returned to the MCP client, with and without response shaping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final String TARGET_FIELDS = "controllerId,name,updateStatus,pollStatus.overdue";
+
+    @Param({ "50", "500" })
+    int size;
+
+    private ObjectMapper mapper;
+    private ResponseShaper responseShaper;
+    private PagedList<MgmtTarget> targets;
+    private PagedList<MgmtAction> actions;
+    private PagedList<MgmtRolloutGroupResponseBody> rolloutGroups;
+
+    @Setup
+    public void setUp() {
+        mapper = Fixtures.objectMapper();
+        responseShaper = new ResponseShaper(mapper);
+        targets = mapper.convertValue(Fixtures.targetPage(mapper, 0, size, size),
+                new TypeReference<PagedList<MgmtTarget>>() {
+                });
+        actions = mapper.convertValue(Fixtures.actionPage(mapper, size),
+                new TypeReference<PagedList<MgmtAction>>() {
+                });
+        rolloutGroups = mapper.convertValue(Fixtures.rolloutGroupPage(mapper, size),
+                new TypeReference<PagedList<MgmtRolloutGroupResponseBody>>() {
+                });
+    }
+
+    @Benchmark
+    public String targets() throws JsonProcessingException {
+        return mapper.writeValueAsString(targets);
+    }
+
+    @Benchmark
+    public String actions() throws JsonProcessingException {
+        return mapper.writeValueAsString(actions);
+    }
+
+    @Benchmark
+    public String rolloutGroups() throws JsonProcessingException {
+        return mapper.writeValueAsString(rolloutGroups);
+    }
+
+    @Benchmark
+    public String targetsProjected() throws JsonProcessingException {
+        return mapper.writeValueAsString(responseShaper.shape(targets, TARGET_FIELDS, ResponseFormat.JSON));
+    }
+
+    @Benchmark
+    public String targetsTable() throws JsonProcessingException {
+        return mapper.writeValueAsString(responseShaper.shape(targets, TARGET_FIELDS, ResponseFormat.TABLE));
+    }
+
+    @Benchmark
+    public String targetsTableAllFields() throws JsonProcessingException {
+        return mapper.writeValueAsString(responseShaper.shape(targets, null, ResponseFormat.TABLE));
+    }
+}
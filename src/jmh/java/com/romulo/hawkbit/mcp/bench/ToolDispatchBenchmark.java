@@ -0,0 +1,121 @@
+package com.romulo.hawkbit.mcp.bench;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springaicommunity.mcp.spring.SyncMcpAnnotationProviders;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+
+/**
+ * Overhead of dispatching a tool call through the annotation based tool specifications (argument binding, invocation
+ * and result conversion), compared with calling the same method directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToolDispatchBenchmark {
+
+    private ObjectMapper mapper;
+    private BenchmarkTools tools;
+    private SyncToolSpecification echo;
+    private SyncToolSpecification listTargets;
+    private CallToolRequest echoRequest;
+    private CallToolRequest listTargetsRequest;
+    private CallToolRequest listTargetsTableRequest;
+
+    @Setup
+    public void setUp() {
+        mapper = Fixtures.objectMapper();
+        PagedList<MgmtTarget> page = mapper.convertValue(Fixtures.targetPage(mapper, 0, 50, 10_000),
+                new TypeReference<PagedList<MgmtTarget>>() {
+                });
+        tools = new BenchmarkTools(page, new ResponseShaper(mapper));
+        List<SyncToolSpecification> specifications = SyncMcpAnnotationProviders.toolSpecifications(List.of(tools));
+        echo = find(specifications, "echo");
+        listTargets = find(specifications, "listTargets");
+        echoRequest = new CallToolRequest("echo", Map.of("value", "device-000001"));
+        listTargetsRequest = new CallToolRequest("listTargets", Map.of("offset", 0, "limit", 50));
+        listTargetsTableRequest = new CallToolRequest("listTargets",
+                Map.of("offset", 0, "limit", 50, "fields", "controllerId,name,updateStatus", "format", "TABLE"));
+    }
+
+    @Benchmark
+    public CallToolResult echoDispatch() {
+        return echo.callHandler().apply(null, echoRequest);
+    }
+
+    @Benchmark
+    public CallToolResult listTargetsDispatch() {
+        return listTargets.callHandler().apply(null, listTargetsRequest);
+    }
+
+    @Benchmark
+    public CallToolResult listTargetsTableDispatch() {
+        return listTargets.callHandler().apply(null, listTargetsTableRequest);
+    }
+
+    @Benchmark
+    public String listTargetsDirect() throws JsonProcessingException {
+        return mapper.writeValueAsString(tools.listTargets(0, 50, null, null));
+    }
+
+    private static SyncToolSpecification find(final List<SyncToolSpecification> specifications, final String name) {
+        return specifications.stream()
+                .filter(specification -> specification.tool().name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Tool not registered: " + name));
+    }
+
+    // Shaped like the service tools, without the upstream call
+    public static class BenchmarkTools {
+
+        private final PagedList<MgmtTarget> page;
+        private final ResponseShaper responseShaper;
+
+        BenchmarkTools(final PagedList<MgmtTarget> page, final ResponseShaper responseShaper) {
+            this.page = page;
+            this.responseShaper = responseShaper;
+        }
+
+        @McpTool(name = "echo", description = "Returns its argument")
+        public String echo(@McpToolParam(description = "Value to return", required = true) String value) {
+            return value;
+        }
+
+        @McpTool(name = "listTargets", description = "Returns a fixed page of targets")
+        public Object listTargets(
+                @McpToolParam(description = "Offset", required = true) int offset,
+                @McpToolParam(description = "Limit", required = true) int limit,
+                @McpToolParam(description = "Comma-separated fields to return", required = false) String fields,
+                @McpToolParam(description = "Response format", required = false) ResponseFormat format) {
+            return responseShaper.shape(page, fields, format);
+        }
+    }
+}
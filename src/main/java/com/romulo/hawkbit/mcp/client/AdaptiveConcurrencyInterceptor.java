@@ -0,0 +1,59 @@
+package com.romulo.hawkbit.mcp.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.config.LimiterProperties;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounds the number of concurrent calls to the hawkBit management API with an {@link AimdLimiter}. 429 and 503
+ * responses, I/O failures and calls much slower than usual for their API method shrink the limit; calls that succeed
+ * at full utilization grow it, so the limit settles near what the server can take. Calls beyond the limit queue for a
+ * bounded time and then fail instead of piling up on the server. All tenants talk to the same server and share one
+ * limit; a tenant beyond its share of it yields to the others that are waiting.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(prefix = "hawkbit.mcp.limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyInterceptor implements UpstreamInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final AimdLimiter limiter;
+
+    public AdaptiveConcurrencyInterceptor(final LimiterProperties properties, final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.limiter = new AimdLimiter(properties);
+        Gauge.builder("hawkbit.upstream.limit", limiter, AimdLimiter::limit)
+                .description("Current adaptive concurrency limit toward the management API")
+                .register(meterRegistry);
+        Gauge.builder("hawkbit.upstream.inflight", limiter, AimdLimiter::inFlight)
+                .description("Calls to the management API in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object intercept(final UpstreamCall call, final Invocation next) throws Exception {
+        if (!limiter.acquire(call.tenant())) {
+            meterRegistry.counter("hawkbit.upstream.rejected", "tenant", call.tenant(), "api", call.apiName(),
+                    "method", call.methodName()).increment();
+            throw new IllegalStateException("hawkBit is at its concurrency limit (" + limiter.limit()
+                    + " calls in flight); no slot freed up within " + limiter.timeoutMillis() + " ms, retry later");
+        }
+        long started = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return next.proceed();
+        } catch (FeignException e) {
+            overloaded = e.status() == 429 || e.status() == 503 || e.status() <= 0;
+            throw e;
+        } finally {
+            limiter.release(call.tenant(), call.method(), System.nanoTime() - started, overloaded);
+        }
+    }
+}
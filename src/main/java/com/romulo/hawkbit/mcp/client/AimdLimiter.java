@@ -0,0 +1,171 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.romulo.hawkbit.mcp.config.LimiterProperties;
+
+/**
+ * Additive-increase/multiplicative-decrease concurrency limit. Each successful call that found the limit in use
+ * grows it by {@code 1/limit}, i.e. by about one slot per limit's worth of calls; an overload signal shrinks it by the
+ * backoff ratio, at most once per observed round trip so one burst of rejections counts as a single signal.
+ * <p>
+ * Besides 429/503 and I/O failures, a call counts as an overload signal when it is much slower than the usual latency
+ * of its API method, so a full page scan that is always slow does not shrink the limit but a lookup that suddenly is
+ * does.
+ * <p>
+ * There is a single limit per server. Tenants share it: a tenant holding its share of the limit only gets another slot
+ * while no tenant below its share is waiting, so spare capacity is never left unused but a busy tenant cannot starve
+ * the others.
+ */
+final class AimdLimiter {
+
+    private final LimiterProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private static final int BASELINE_SAMPLES = 20;
+
+    private final Map<String, Usage> tenants = new HashMap<>();
+    private final Map<Method, Baseline> baselines = new HashMap<>();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+    private long smoothedLatencyNanos;
+
+    AimdLimiter(final LimiterProperties properties) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * Waits up to the configured maximum for a free slot.
+     *
+     * @return {@code false} if no slot became free in time
+     */
+    boolean acquire(final String tenant) throws InterruptedException {
+        long remaining = properties.maxWait().toNanos();
+        lock.lock();
+        try {
+            Usage usage = tenants.computeIfAbsent(tenant, name -> new Usage());
+            usage.waiting++;
+            waiting++;
+            try {
+                while (!admits(usage)) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = slotFreed.awaitNanos(remaining);
+                }
+                usage.inFlight++;
+                inFlight++;
+                return true;
+            } finally {
+                usage.waiting--;
+                waiting--;
+                forgetIdle(tenant, usage);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(final String tenant, final Method method, final long latencyNanos, final boolean overloaded) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= (int) limit;
+            inFlight--;
+            Usage usage = tenants.get(tenant);
+            if (usage != null) {
+                usage.inFlight--;
+                forgetIdle(tenant, usage);
+            }
+            smoothedLatencyNanos = (smoothedLatencyNanos == 0) ? latencyNanos
+                    : (smoothedLatencyNanos * 7 + latencyNanos) / 8;
+
+            boolean slow = baselines.computeIfAbsent(method, key -> new Baseline())
+                    .slow(latencyNanos, properties.latencyTolerance());
+            long now = System.nanoTime();
+            if (overloaded || slow) {
+                if (!decreased || now - lastDecreaseNanos > smoothedLatencyNanos) {
+                    limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+                    lastDecreaseNanos = now;
+                    decreased = true;
+                }
+            } else if (saturated) {
+                limit = Math.min(properties.maxLimit(), limit + 1 / limit);
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds the lock
+    private boolean admits(final Usage usage) {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        int share = Math.max(1, (int) (limit * properties.tenantShare()));
+        if (usage.inFlight < share || waiting == usage.waiting) {
+            return true;
+        }
+        // beyond its share only while no other tenant below its share is waiting
+        return tenants.values().stream()
+                .noneMatch(other -> other != usage && other.waiting > 0 && other.inFlight < share);
+    }
+
+    private void forgetIdle(final String tenant, final Usage usage) {
+        if (usage.inFlight == 0 && usage.waiting == 0) {
+            tenants.remove(tenant);
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long timeoutMillis() {
+        return properties.maxWait().toMillis();
+    }
+
+    // Slowly moving average latency of one API method; judges calls only once it has seen enough of them
+    private static final class Baseline {
+
+        private long averageNanos;
+        private int samples;
+
+        boolean slow(final long latencyNanos, final double tolerance) {
+            boolean slow = samples >= BASELINE_SAMPLES && latencyNanos > averageNanos * tolerance;
+            averageNanos = (samples == 0) ? latencyNanos : (averageNanos * 15 + latencyNanos) / 16;
+            samples = Math.min(samples + 1, BASELINE_SAMPLES);
+            return slow;
+        }
+    }
+
+    private static final class Usage {
+
+        private int inFlight;
+        private int waiting;
+    }
+}
@@ -0,0 +1,134 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.config.HedgingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hedges read-only calls: if the first attempt has not answered after the configured latency percentile of recent
+ * calls to the same method, a second attempt is sent and whichever succeeds first is returned. The hedge delay adapts
+ * to each method, a token budget caps the share of hedged calls, and writes are never hedged.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 14)
+@ConditionalOnProperty(prefix = "hawkbit.mcp.hedging", name = "enabled", havingValue = "true")
+public class HedgingInterceptor implements UpstreamInterceptor {
+
+    private static final double MAX_BUDGET_TOKENS = 10;
+
+    private final HedgingProperties properties;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private double budgetTokens;
+
+    public HedgingInterceptor(final HedgingProperties properties, final ExecutorService hawkbitExecutor,
+            final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = hawkbitExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(final UpstreamCall call, final Invocation next) throws Exception {
+        if (!call.readOnly()) {
+            return next.proceed();
+        }
+        earnBudget();
+        LatencyTracker latency = latencies.computeIfAbsent(call.method(),
+                method -> new LatencyTracker(properties.percentile()));
+        if (latency.count() < properties.minSamples()) {
+            return timed(latency, next);
+        }
+        long delayNanos = Math.max(latency.percentileNanos(), properties.minDelay().toNanos());
+
+        CompletionService<Object> attempts = new ExecutorCompletionService<>(executor);
+        long primaryStarted = System.nanoTime();
+        Future<Object> primary = attempts.submit(() -> timed(latency, next));
+        Future<Object> hedge = null;
+        try {
+            Future<Object> first = attempts.poll(delayNanos, TimeUnit.NANOSECONDS);
+            if (first != null || !spendBudgetToken()) {
+                return result(first != null ? first : primary);
+            }
+
+            meterRegistry.counter("hawkbit.upstream.hedged", "api", call.apiName(), "method", call.methodName())
+                    .increment();
+            hedge = attempts.submit(() -> timed(latency, next));
+            Future<Object> winner = attempts.take();
+            try {
+                Object result = result(winner);
+                if (winner == primary) {
+                    hedge.cancel(true);
+                } else {
+                    // the abandoned primary never reports its latency; the time it ran so far is a lower bound, without
+                    // it the slow calls would vanish from the samples and the percentile would drift down
+                    latency.record(System.nanoTime() - primaryStarted);
+                    primary.cancel(true);
+                }
+                return result;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                // the first answer was a failure, the other attempt may still succeed
+                return result(attempts.take());
+            }
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private Object timed(final LatencyTracker latency, final Invocation next) throws Exception {
+        long started = System.nanoTime();
+        Object result = next.proceed();
+        latency.record(System.nanoTime() - started);
+        return result;
+    }
+
+    // Every read call earns budgetRatio tokens, a hedge costs one
+    synchronized void earnBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + properties.budgetRatio());
+    }
+
+    synchronized boolean spendBudgetToken() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens -= 1;
+        return true;
+    }
+
+    private static Object result(final Future<Object> attempt) throws Exception {
+        try {
+            return attempt.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
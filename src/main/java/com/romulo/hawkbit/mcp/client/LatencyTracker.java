@@ -0,0 +1,47 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the most recent calls of one API method in a ring buffer, with the configured percentile recomputed
+ * every few samples rather than on every read.
+ */
+final class LatencyTracker {
+
+    private static final int WINDOW = 256;
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final double percentile;
+    private final long[] samples = new long[WINDOW];
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private long percentileNanos = -1;
+
+    LatencyTracker(final double percentile) {
+        this.percentile = percentile;
+    }
+
+    synchronized void record(final long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+        if (++sinceRecompute >= RECOMPUTE_EVERY || percentileNanos < 0) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * @return the latency percentile in nanoseconds, {@code -1} before the first sample
+     */
+    synchronized long percentileNanos() {
+        return percentileNanos;
+    }
+}
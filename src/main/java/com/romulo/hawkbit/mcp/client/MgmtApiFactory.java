@@ -0,0 +1,104 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.eclipse.hawkbit.sdk.HawkbitClient;
+import org.eclipse.hawkbit.sdk.Tenant;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romulo.hawkbit.mcp.client.UpstreamInterceptor.Invocation;
+import com.romulo.hawkbit.mcp.config.TenantProperties;
+import com.romulo.hawkbit.mcp.config.TenantProperties.Credentials;
+
+/**
+ * Creates the {@code Mgmt*RestApi} proxies used by the services. Each proxy delegates to the hawkBit SDK Feign client
+ * through the {@link UpstreamInterceptor} chain, which is where cross-cutting behavior for upstream calls lives.
+ * <p>
+ * The SDK client is bound to a tenant, so the proxies resolve it per call from the {@link TenantContext}: SDK clients
+ * of other tenants are created on first use and kept in a bounded cache. They all share the same Feign client and
+ * thus one HTTP connection pool.
+ */
+@Component
+public class MgmtApiFactory {
+
+    private final HawkbitClient hawkbitClient;
+    private final Tenant defaultTenant;
+    private final TenantProperties tenantProperties;
+    private final List<UpstreamInterceptor> interceptors;
+    private final Cache<DelegateKey, Object> delegates;
+
+    public MgmtApiFactory(final HawkbitClient hawkbitClient, final Tenant tenant,
+            final TenantProperties tenantProperties, final ObjectProvider<UpstreamInterceptor> interceptors) {
+        this.hawkbitClient = hawkbitClient;
+        this.defaultTenant = tenant;
+        this.tenantProperties = tenantProperties;
+        this.interceptors = interceptors.orderedStream().toList();
+        this.delegates = Caffeine.newBuilder()
+                .maximumSize(tenantProperties.maxClients())
+                .expireAfterAccess(tenantProperties.idleTimeout())
+                .build();
+    }
+
+    public <T> T mgmtService(final Class<T> api) {
+        return api.cast(Proxy.newProxyInstance(api.getClassLoader(), new Class<?>[] { api },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(delegate(api, TenantContext.DEFAULT), args);
+                    }
+                    String tenant = TenantContext.current();
+                    Object delegate = delegate(api, tenant);
+                    UpstreamCall call = new UpstreamCall(tenant, api, method, args);
+                    return proceed(call, 0, () -> invoke(delegate, method, args));
+                }));
+    }
+
+    private Object delegate(final Class<?> api, final String tenant) {
+        return delegates.get(new DelegateKey(tenant, api), key -> hawkbitClient.mgmtService(api, tenant(tenant)));
+    }
+
+    private Tenant tenant(final String name) {
+        if (TenantContext.DEFAULT.equals(name)) {
+            return defaultTenant;
+        }
+        Credentials credentials = tenantProperties.entries().get(name);
+        if (credentials == null) {
+            throw new IllegalArgumentException("Unknown tenant: " + name + ". Known tenants: "
+                    + tenantProperties.names());
+        }
+        Tenant tenant = new Tenant();
+        tenant.setTenantId((credentials.tenantId() != null) ? credentials.tenantId() : name);
+        tenant.setUsername(credentials.username());
+        tenant.setPassword(credentials.password());
+        return tenant;
+    }
+
+    private Object proceed(final UpstreamCall call, final int index, final Invocation target) throws Exception {
+        if (index == interceptors.size()) {
+            return target.proceed();
+        }
+        return interceptors.get(index).intercept(call, () -> proceed(call, index + 1, target));
+    }
+
+    private static Object invoke(final Object delegate, final Method method, final Object[] args) throws Exception {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record DelegateKey(String tenant, Class<?> api) {
+    }
+}
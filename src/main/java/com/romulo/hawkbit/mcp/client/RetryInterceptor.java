@@ -0,0 +1,60 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.config.RetryProperties;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Retries read-only calls that failed transiently, with exponential backoff and full jitter so that callers failing
+ * together do not retry together. Every attempt goes through the concurrency limiter again. Writes are never retried.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 16)
+@ConditionalOnProperty(prefix = "hawkbit.mcp.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RetryInterceptor implements UpstreamInterceptor {
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RetryInterceptor(final RetryProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(final UpstreamCall call, final Invocation next) throws Exception {
+        if (!call.readOnly()) {
+            return next.proceed();
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                return next.proceed();
+            } catch (FeignException e) {
+                if (attempt >= properties.maxAttempts() || !transientFailure(e.status())) {
+                    throw e;
+                }
+                meterRegistry.counter("hawkbit.upstream.retries", "api", call.apiName(), "method", call.methodName())
+                        .increment();
+                Thread.sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    private long backoffMillis(final int attempt) {
+        long bound = Math.min(properties.maxBackoff().toMillis(),
+                properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private static boolean transientFailure(final int status) {
+        return status <= 0 || status == 429 || status == 502 || status == 503 || status == 504;
+    }
+}
@@ -0,0 +1,123 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.io.InterruptedIOException;
+import java.lang.reflect.Method;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces identical concurrent read-only calls: while a GET with the same tenant, API, method and arguments is in
+ * flight, further callers wait for it and receive the same response (or exception) instead of issuing their own
+ * request. Nothing is kept once the call completes, so this never serves stale data. Callers must treat shared
+ * response bodies as read-only. If the call fails because its own caller timed out or was cancelled, the waiting
+ * callers do not inherit that interruption but call again.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "hawkbit.mcp.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightInterceptor implements UpstreamInterceptor {
+
+    // the outcome handed to followers when the leader was interrupted or cancelled: they call again themselves
+    private static final Object RETRY = new Object();
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightInterceptor(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(final UpstreamCall call, final Invocation next) throws Exception {
+        if (!call.readOnly()) {
+            return next.proceed();
+        }
+
+        Key key = Key.of(call);
+        while (true) {
+            CompletableFuture<Object> leader = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+            if (existing == null) {
+                return lead(key, leader, next);
+            }
+            meterRegistry.counter("hawkbit.upstream.coalesced", "api", call.apiName(), "method", call.methodName())
+                    .increment();
+            Object result = await(existing);
+            if (result != RETRY) {
+                return result;
+            }
+        }
+    }
+
+    private Object lead(final Key key, final CompletableFuture<Object> leader, final Invocation next)
+            throws Exception {
+        Object result;
+        try {
+            result = next.proceed();
+        } catch (Throwable e) {
+            // removed before completing, so followers calling again do not find this call
+            inFlight.remove(key, leader);
+            if (abandoned(e)) {
+                leader.complete(RETRY);
+            } else {
+                leader.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, leader);
+        leader.complete(result);
+        return result;
+    }
+
+    /**
+     * Whether the call failed because its own caller gave up (timeout or cancellation interrupts the thread), which
+     * says nothing about the outcome the followers would get.
+     */
+    private static boolean abandoned(final Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof ClosedByInterruptException || cause instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object await(final CompletableFuture<Object> call) throws Exception {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String tenant, Class<?> api, Method method, List<Object> args) {
+
+        static Key of(final UpstreamCall call) {
+            List<Object> args = (call.args() != null) ? Arrays.asList(call.args()) : List.of();
+            return new Key(call.tenant(), call.api(), call.method(), args);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.util.function.Supplier;
+
+/**
+ * The tenant the current tool call runs against. It is inherited by the threads the call starts (page scans, batches,
+ * hedged requests run on fresh virtual threads), so every upstream call made on behalf of the tool goes to the same
+ * tenant.
+ */
+public final class TenantContext {
+
+    /** The tenant configured under {@code hawkbit.tenant}, used when a tool call does not select one. */
+    public static final String DEFAULT = "default";
+
+    private static final InheritableThreadLocal<String> CURRENT = new InheritableThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return (tenant != null) ? tenant : DEFAULT;
+    }
+
+    public static <T> T callAs(final String tenant, final Supplier<T> call) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
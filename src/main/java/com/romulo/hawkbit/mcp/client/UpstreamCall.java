@@ -0,0 +1,30 @@
+package com.romulo.hawkbit.mcp.client;
+
+import java.lang.reflect.Method;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * A single invocation of a {@code Mgmt*RestApi} method on behalf of a tenant, as seen by the
+ * {@link UpstreamInterceptor} chain.
+ */
+public record UpstreamCall(String tenant, Class<?> api, Method method, Object[] args) {
+
+    public String apiName() {
+        return api.getSimpleName();
+    }
+
+    public String methodName() {
+        return method.getName();
+    }
+
+    /**
+     * Whether the call is an HTTP GET, i.e. a read without side effects that may be shared, retried or hedged.
+     */
+    public boolean readOnly() {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        return mapping != null && mapping.method().length == 1 && mapping.method()[0] == RequestMethod.GET;
+    }
+}
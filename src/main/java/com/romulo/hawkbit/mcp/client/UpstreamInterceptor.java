@@ -0,0 +1,16 @@
+package com.romulo.hawkbit.mcp.client;
+
+/**
+ * Decorates every call made through the proxies of {@link MgmtApiFactory}. Interceptors are applied in
+ * {@link org.springframework.core.annotation.Order} order, the first one being the outermost.
+ */
+public interface UpstreamInterceptor {
+
+    Object intercept(UpstreamCall call, Invocation next) throws Exception;
+
+    @FunctionalInterface
+    interface Invocation {
+
+        Object proceed() throws Exception;
+    }
+}
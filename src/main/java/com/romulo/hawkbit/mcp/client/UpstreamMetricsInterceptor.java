@@ -0,0 +1,72 @@
+package com.romulo.hawkbit.mcp.client;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every upstream REST call per API and method, tagged with the outcome and HTTP status. It is the outermost
+ * interceptor, so the timing covers everything the other interceptors add (queuing, retries).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UpstreamMetricsInterceptor implements UpstreamInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public UpstreamMetricsInterceptor(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(final UpstreamCall call, final Invocation next) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String status = "NONE";
+        try {
+            Object result = next.proceed();
+            if (result instanceof ResponseEntity<?> response) {
+                status = String.valueOf(response.getStatusCode().value());
+            }
+            return result;
+        } catch (FeignException e) {
+            status = String.valueOf(e.status());
+            outcome = outcome(e.status());
+            throw e;
+        } catch (Exception e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("hawkbit.upstream.requests")
+                    .description("Calls to the hawkBit management API")
+                    .tag("api", call.apiName())
+                    .tag("method", call.methodName())
+                    .tag("outcome", outcome)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            if (!"SUCCESS".equals(outcome)) {
+                meterRegistry.counter("hawkbit.upstream.errors", "api", call.apiName(), "method", call.methodName(),
+                        "outcome", outcome).increment();
+            }
+        }
+    }
+
+    private static String outcome(final int status) {
+        if (status == 429 || status == 503) {
+            return "THROTTLED";
+        }
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return (status <= 0) ? "IO_ERROR" : "SUCCESS";
+    }
+}
@@ -0,0 +1,20 @@
+package com.romulo.hawkbit.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("hawkbit.mcp.bulk")
+public record BulkProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("1000") int maxChunkSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("16") int maxParallelism) {
+
+    public int chunkSize(final Integer requested) {
+        return (requested != null && requested > 0) ? Math.min(requested, maxChunkSize) : chunkSize;
+    }
+
+    public int parallelism(final Integer requested) {
+        return (requested != null && requested > 0) ? Math.min(requested, maxParallelism) : parallelism;
+    }
+}
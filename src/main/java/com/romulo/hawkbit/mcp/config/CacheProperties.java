@@ -0,0 +1,16 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("hawkbit.mcp.cache")
+public record CacheProperties(
+        @DefaultValue("500") long maxEntries,
+        @DefaultValue("10m") Duration targetTypesTtl,
+        @DefaultValue("10m") Duration targetTagsTtl,
+        @DefaultValue("5m") Duration targetFiltersTtl,
+        @DefaultValue("30m") Duration compatibilityTtl,
+        @DefaultValue("1m") Duration fleetAggregatesTtl) {
+}
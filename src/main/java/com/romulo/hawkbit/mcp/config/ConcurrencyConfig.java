@@ -0,0 +1,17 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConcurrencyConfig {
+
+    // Upstream calls are blocking Feign requests, so one virtual thread per call is cheap.
+    @Bean(destroyMethod = "close")
+    public ExecutorService hawkbitExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
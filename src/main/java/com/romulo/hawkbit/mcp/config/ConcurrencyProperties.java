@@ -0,0 +1,11 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("hawkbit.mcp.concurrency")
+public record ConcurrencyProperties(
+        @DefaultValue("10s") Duration callTimeout) {
+}
@@ -0,0 +1,14 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param directory the only directory export tools write to; file paths given by tool callers are resolved inside it
+ */
+@ConfigurationProperties("hawkbit.mcp.export")
+public record ExportProperties(
+        @DefaultValue("exports") Path directory) {
+}
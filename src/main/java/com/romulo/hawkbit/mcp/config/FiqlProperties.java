@@ -0,0 +1,14 @@
+package com.romulo.hawkbit.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled   validate FIQL filters locally before calling hawkBit
+ * @param cacheSize maximum number of parsed filters kept
+ */
+@ConfigurationProperties("hawkbit.mcp.fiql")
+public record FiqlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int cacheSize) {
+}
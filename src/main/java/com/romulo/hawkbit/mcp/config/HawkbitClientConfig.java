@@ -7,6 +7,7 @@ import org.eclipse.hawkbit.sdk.mgmt.AuthenticationSetupHelper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import feign.Client;
 import feign.Contract;
 import feign.codec.Decoder;
 import feign.codec.Encoder;
@@ -15,9 +16,10 @@ import feign.codec.Encoder;
 public class HawkbitClientConfig {
 
     @Bean
-    public HawkbitClient hawkbitClient(final HawkbitServer hawkbitServer, final Encoder encoder, final Decoder decoder,
-            final Contract contract) {
-        return new HawkbitClient(hawkbitServer, encoder, decoder, contract);
+    public HawkbitClient hawkbitClient(final HawkbitServer hawkbitServer, final Client hawkbitFeignClient,
+            final Encoder encoder, final Decoder decoder, final Contract contract) {
+        return new HawkbitClient(hawkbitServer, hawkbitFeignClient, encoder, decoder, contract,
+                HawkbitClient.DEFAULT_ERROR_DECODER, HawkbitClient.DEFAULT_REQUEST_INTERCEPTOR_FN);
     }
 
     @Bean
@@ -0,0 +1,84 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection and proxy hints for AOT processing and native images. Spring derives hints for its own beans, but not
+ * for what is only reached reflectively at runtime:
+ * <ul>
+ * <li>the hawkBit SDK {@code Mgmt*RestApi} interfaces, which Feign and {@code MgmtApiFactory} turn into JDK proxies
+ * and whose annotations Feign reads;</li>
+ * <li>the SDK JSON models, (de)serialized by Jackson;</li>
+ * <li>the {@link McpTool} methods of the services and their parameter and return types, invoked and turned into JSON
+ * schemas by the MCP annotation support, and the build-time {@link ToolRegistry} file describing them.</li>
+ * </ul>
+ * The classes are found by classpath scanning, which runs at build time.
+ */
+public class HawkbitRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String MGMT_API_PACKAGE = "org.eclipse.hawkbit.mgmt.rest.api";
+    private static final String MGMT_MODEL_PACKAGE = "org.eclipse.hawkbit.mgmt.json.model";
+    private static final String TOOL_PACKAGE = "com.romulo.hawkbit.mcp.service";
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        TypeFilter restApis = new RegexPatternTypeFilter(Pattern.compile(".*\\.Mgmt\\w*RestApi"));
+        scan(MGMT_API_PACKAGE, restApis, true, classLoader).forEach(api -> {
+            hints.proxies().registerJdkProxy(api);
+            hints.reflection().registerType(api, MemberCategory.INVOKE_PUBLIC_METHODS);
+        });
+
+        scan(MGMT_MODEL_PACKAGE, (reader, factory) -> true, false, classLoader)
+                .forEach(model -> bindingHints.registerReflectionHints(hints.reflection(), model));
+
+        hints.resources().registerPattern(ToolRegistry.LOCATION);
+        bindingHints.registerReflectionHints(hints.reflection(), ToolRegistry.Descriptor.class);
+        scan(TOOL_PACKAGE, new AnnotationTypeFilter(Service.class), false, classLoader).forEach(service -> {
+            hints.reflection().registerType(service, MemberCategory.INVOKE_DECLARED_METHODS);
+            Arrays.stream(service.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(McpTool.class))
+                    .flatMap(HawkbitRuntimeHints::signatureTypes)
+                    .forEach(type -> bindingHints.registerReflectionHints(hints.reflection(), type));
+        });
+    }
+
+    private static Stream<Type> signatureTypes(final Method method) {
+        return Stream.concat(Stream.of(method.getGenericReturnType()),
+                Arrays.stream(method.getGenericParameterTypes()));
+    }
+
+    private static Stream<Class<?>> scan(final String basePackage, final TypeFilter filter, final boolean interfaces,
+            final ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+
+            @Override
+            protected boolean isCandidateComponent(final AnnotatedBeanDefinition definition) {
+                AnnotationMetadata metadata = definition.getMetadata();
+                return metadata.isIndependent() && metadata.isInterface() == interfaces;
+            }
+        };
+        scanner.addIncludeFilter(filter);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader));
+    }
+}
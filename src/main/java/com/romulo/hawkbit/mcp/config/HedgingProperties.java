@@ -0,0 +1,24 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hedged read-only management API calls: when a call has not answered after the given latency percentile of its
+ * recent calls, a duplicate is sent and the first answer wins.
+ *
+ * @param percentile  latency percentile of the same API method used as the hedge delay
+ * @param minDelay    lower bound of the hedge delay
+ * @param minSamples  calls of a method observed before it is hedged at all
+ * @param budgetRatio maximum share of calls that may be hedged, so hedging cannot double the load on a slow server
+ */
+@ConfigurationProperties("hawkbit.mcp.hedging")
+public record HedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.95") double percentile,
+        @DefaultValue("20ms") Duration minDelay,
+        @DefaultValue("50") int minSamples,
+        @DefaultValue("0.1") double budgetRatio) {
+}
@@ -0,0 +1,41 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Client;
+import feign.Request;
+import feign.okhttp.OkHttpClient;
+import okhttp3.ConnectionPool;
+import okhttp3.Protocol;
+
+@Configuration
+public class HttpClientConfig {
+
+    // One pooled OkHttp client for every proxy: keep-alive connections are reused across services and tools,
+    // idle ones are evicted after idle-timeout, and HTTP/2 is negotiated via ALPN on TLS connections.
+    @Bean
+    public okhttp3.OkHttpClient hawkbitHttpClient(final HttpClientProperties properties) {
+        return new okhttp3.OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(properties.maxIdleConnections(),
+                        properties.idleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(properties.connectTimeout())
+                .readTimeout(properties.readTimeout())
+                .protocols(properties.http2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    @Bean
+    public Client hawkbitFeignClient(final okhttp3.OkHttpClient hawkbitHttpClient,
+            final HttpClientProperties properties) {
+        Request.Options options = new Request.Options(
+                properties.connectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                properties.readTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+        return new RouteLimitingClient(new OkHttpClient(hawkbitHttpClient), options,
+                properties.maxConnectionsPerRoute());
+    }
+}
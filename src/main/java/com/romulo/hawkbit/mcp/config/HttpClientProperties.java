@@ -0,0 +1,19 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Transport settings for the hawkBit management API, shared by all {@code Mgmt*RestApi} proxies.
+ */
+@ConfigurationProperties("hawkbit.server.http")
+public record HttpClientProperties(
+        @DefaultValue("64") int maxConnectionsPerRoute,
+        @DefaultValue("32") int maxIdleConnections,
+        @DefaultValue("5m") Duration idleTimeout,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration readTimeout,
+        @DefaultValue("true") boolean http2) {
+}
@@ -0,0 +1,87 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Guards the HTTP transport, which exposes every tool, including the write and bulk ones. Requests must carry
+ * {@code Authorization: Bearer <hawkbit.mcp.http.auth-token>} when a token is configured. Without a token the server
+ * only starts on a loopback address, unless {@code hawkbit.mcp.http.allow-anonymous} is set explicitly.
+ * <p>
+ * Any client that passes may select any of the {@code hawkbit.mcp.tenants} entries, so those are only served over HTTP
+ * with {@code hawkbit.mcp.tenants.allow-http}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class HttpSecurityConfig {
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> bearerTokenFilter(final HttpSecurityProperties properties,
+            final ServerProperties serverProperties, final TenantProperties tenantProperties) {
+        if (!tenantProperties.entries().isEmpty() && !tenantProperties.allowHttp()) {
+            throw new IllegalStateException("hawkbit.mcp.tenants.entries would let every HTTP client act on "
+                    + tenantProperties.entries().keySet() + ". Use the stdio transport, or set"
+                    + " hawkbit.mcp.tenants.allow-http=true to serve them to all clients of this server.");
+        }
+        InetAddress address = serverProperties.getAddress();
+        boolean loopback = address != null && address.isLoopbackAddress();
+        if (!properties.tokenRequired() && !loopback && !properties.allowAnonymous()) {
+            String listening = (address != null) ? address.getHostAddress() : "all addresses";
+            throw new IllegalStateException("The HTTP transport listens on " + listening
+                    + " without authentication. Set hawkbit.mcp.http.auth-token, bind server.address to 127.0.0.1,"
+                    + " or set hawkbit.mcp.http.allow-anonymous=true to accept the risk.");
+        }
+
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(
+                new BearerTokenFilter(properties));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(properties.tokenRequired());
+        return registration;
+    }
+
+    private static final class BearerTokenFilter extends OncePerRequestFilter {
+
+        private static final String PREFIX = "Bearer ";
+
+        private final byte[] expected;
+
+        private BearerTokenFilter(final HttpSecurityProperties properties) {
+            this.expected = properties.tokenRequired() ? properties.authToken().getBytes(StandardCharsets.UTF_8)
+                    : new byte[0];
+        }
+
+        @Override
+        protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                final FilterChain chain) throws ServletException, IOException {
+            String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            byte[] presented = (header != null && header.startsWith(PREFIX))
+                    ? header.substring(PREFIX.length()).getBytes(StandardCharsets.UTF_8)
+                    : new byte[0];
+            // constant-time comparison, the token must not leak through response timing
+            if (!MessageDigest.isEqual(expected, presented)) {
+                response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.romulo.hawkbit.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Access to the HTTP transport ({@code http} profile).
+ *
+ * @param authToken      bearer token every HTTP request must present; blank disables the check
+ * @param allowAnonymous allow binding to a non-loopback address without a token
+ */
+@ConfigurationProperties("hawkbit.mcp.http")
+public record HttpSecurityProperties(
+        String authToken,
+        @DefaultValue("false") boolean allowAnonymous) {
+
+    public boolean tokenRequired() {
+        return authToken != null && !authToken.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param directory the only directory import tools read from; file paths given by tool callers are resolved inside it
+ */
+@ConfigurationProperties("hawkbit.mcp.import")
+public record ImportProperties(
+        @DefaultValue("imports") Path directory) {
+}
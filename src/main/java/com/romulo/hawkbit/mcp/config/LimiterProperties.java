@@ -0,0 +1,30 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Adaptive (AIMD) concurrency limit of the calls to the hawkBit management API.
+ *
+ * @param initialLimit     concurrent calls allowed at startup
+ * @param minLimit         the limit never shrinks below this
+ * @param maxLimit         the limit never grows above this
+ * @param maxWait          how long a call may queue for a free slot before it fails
+ * @param latencyTolerance a call slower than this multiple of the average latency of its API method counts as an
+ *                         overload signal, like a 429 or 503
+ * @param backoffRatio     factor applied to the limit on an overload signal
+ * @param tenantShare      share of the limit a single tenant may hold while other tenants are waiting for a slot
+ */
+@ConfigurationProperties("hawkbit.mcp.limiter")
+public record LimiterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("16") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("64") int maxLimit,
+        @DefaultValue("5s") Duration maxWait,
+        @DefaultValue("3") double latencyTolerance,
+        @DefaultValue("0.75") double backoffRatio,
+        @DefaultValue("0.5") double tenantShare) {
+}
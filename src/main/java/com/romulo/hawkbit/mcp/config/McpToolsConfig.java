@@ -0,0 +1,168 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.spring.SyncMcpAnnotationProviders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romulo.hawkbit.mcp.client.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Registers the {@link McpTool} methods of the service beans with the MCP server, for both server types. With
+ * {@code spring.ai.mcp.server.type: ASYNC} the same tools are exposed as non-blocking handlers whose blocking hawkBit
+ * calls run on virtual threads, so a slow tool call no longer holds up the other pending ones.
+ * <p>
+ * Tool descriptors and input schemas come from the {@link ToolRegistry} generated at build time; annotation scanning
+ * is only the fallback when it is missing or out of date.
+ * <p>
+ * When {@code hawkbit.mcp.tenants} lists additional tenants, every tool gets an optional {@code tenant} argument. It is
+ * removed before the tool method sees the arguments and selects the tenant for the call through {@link TenantContext}.
+ * Any client may select any listed tenant; see {@link TenantProperties} for why this is limited to stdio by default.
+ */
+@Configuration
+@ImportRuntimeHints(HawkbitRuntimeHints.class)
+public class McpToolsConfig {
+
+    private static final String TENANT_PARAM = "tenant";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public List<SyncToolSpecification> syncToolSpecifications(final ApplicationContext context,
+            final ObjectMapper objectMapper, final TenantProperties tenantProperties,
+            final MeterRegistry meterRegistry) {
+        return toolSpecifications(context, objectMapper).stream()
+                .map(tool -> instrument(tenantAware(tool, tenantProperties), meterRegistry))
+                .toList();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<AsyncToolSpecification> asyncToolSpecifications(final ApplicationContext context,
+            final ObjectMapper objectMapper, final ExecutorService hawkbitExecutor,
+            final TenantProperties tenantProperties, final MeterRegistry meterRegistry) {
+        Scheduler scheduler = Schedulers.fromExecutorService(hawkbitExecutor, "hawkbit-tools");
+        return toolSpecifications(context, objectMapper).stream()
+                .map(tool -> offload(instrument(tenantAware(tool, tenantProperties), meterRegistry), scheduler))
+                .toList();
+    }
+
+    // Descriptors generated at build time when they match the tool beans, annotation scanning otherwise
+    private static List<SyncToolSpecification> toolSpecifications(final ApplicationContext context,
+            final ObjectMapper objectMapper) {
+        List<Object> toolBeans = toolBeans(context);
+        List<SyncToolSpecification> registered = ToolRegistry.load(toolBeans, objectMapper);
+        return (registered != null) ? registered : SyncMcpAnnotationProviders.toolSpecifications(toolBeans);
+    }
+
+    private static SyncToolSpecification tenantAware(final SyncToolSpecification tool,
+            final TenantProperties tenantProperties) {
+        if (tenantProperties.entries().isEmpty()) {
+            return tool;
+        }
+        Set<String> tenants = tenantProperties.names();
+        return SyncToolSpecification.builder()
+                .tool(withTenantParam(tool.tool(), tenants))
+                .callHandler((exchange, request) -> {
+                    Map<String, Object> arguments = new LinkedHashMap<>(
+                            (request.arguments() != null) ? request.arguments() : Map.of());
+                    Object selected = arguments.remove(TENANT_PARAM);
+                    String tenant = (selected != null) ? selected.toString() : TenantContext.DEFAULT;
+                    if (!tenants.contains(tenant)) {
+                        return CallToolResult.builder()
+                                .isError(true)
+                                .addTextContent("Unknown tenant: " + tenant + ". Known tenants: " + tenants)
+                                .build();
+                    }
+                    CallToolRequest call = new CallToolRequest(request.name(), arguments, request.meta());
+                    return TenantContext.callAs(tenant, () -> tool.callHandler().apply(exchange, call));
+                })
+                .build();
+    }
+
+    private static Tool withTenantParam(final Tool tool, final Set<String> tenants) {
+        JsonSchema schema = tool.inputSchema();
+        Map<String, Object> properties = new LinkedHashMap<>(
+                (schema.properties() != null) ? schema.properties() : Map.of());
+        properties.put(TENANT_PARAM, Map.of(
+                "type", "string",
+                "enum", List.copyOf(tenants),
+                "description", "Tenant to run the tool against (default: " + TenantContext.DEFAULT + ")"));
+        return Tool.builder()
+                .name(tool.name())
+                .title(tool.title())
+                .description(tool.description())
+                .inputSchema(new JsonSchema(schema.type(), properties, schema.required(),
+                        schema.additionalProperties(), schema.defs(), schema.definitions()))
+                .outputSchema(tool.outputSchema())
+                .annotations(tool.annotations())
+                .meta(tool.meta())
+                .build();
+    }
+
+    // Times every tool call per tool name; TOOL_ERROR means the tool returned an error result to the client
+    private static SyncToolSpecification instrument(final SyncToolSpecification tool,
+            final MeterRegistry meterRegistry) {
+        String name = tool.tool().name();
+        return SyncToolSpecification.builder()
+                .tool(tool.tool())
+                .callHandler((exchange, request) -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    String outcome = "ERROR";
+                    try {
+                        CallToolResult result = tool.callHandler().apply(exchange, request);
+                        outcome = Boolean.TRUE.equals(result.isError()) ? "TOOL_ERROR" : "SUCCESS";
+                        return result;
+                    } finally {
+                        sample.stop(Timer.builder("hawkbit.mcp.tool.calls")
+                                .description("MCP tool calls")
+                                .tag("tool", name)
+                                .tag("outcome", outcome)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry));
+                    }
+                })
+                .build();
+    }
+
+    private static AsyncToolSpecification offload(final SyncToolSpecification tool, final Scheduler scheduler) {
+        return AsyncToolSpecification.builder()
+                .tool(tool.tool())
+                .callHandler((exchange, request) -> Mono
+                        .fromCallable(() -> tool.callHandler().apply(new McpSyncServerExchange(exchange), request))
+                        .subscribeOn(scheduler))
+                .build();
+    }
+
+    private static List<Object> toolBeans(final ApplicationContext context) {
+        return context.getBeansWithAnnotation(Service.class).values().stream()
+                .filter(bean -> Arrays.stream(ClassUtils.getUserClass(bean).getDeclaredMethods())
+                        .anyMatch(method -> method.isAnnotationPresent(McpTool.class)))
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param dumpFile     file the Prometheus text exposition is written to; no dump when unset
+ * @param dumpInterval how often the file is rewritten
+ */
+@ConfigurationProperties("hawkbit.mcp.metrics")
+public record MetricsExportProperties(
+        Path dumpFile,
+        @DefaultValue("60s") Duration dumpInterval) {
+}
@@ -0,0 +1,70 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Periodically writes the Prometheus scrape text to a local file. Used in stdio mode, where there is no HTTP endpoint
+ * to scrape; in the http profile {@code /actuator/prometheus} exposes the same data.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hawkbit.mcp.metrics", name = "dump-file")
+public class MetricsFileExporter implements DisposableBean {
+
+    private final PrometheusMeterRegistry registry;
+    private final Path dumpFile;
+    private final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(Thread.ofVirtual().name("metrics-dump").factory());
+
+    public MetricsFileExporter(final PrometheusMeterRegistry registry, final MetricsExportProperties properties) {
+        this.registry = registry;
+        this.dumpFile = properties.dumpFile();
+        long interval = properties.dumpInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::dump, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void dump() {
+        Path tmp = null;
+        try {
+            String scrape = registry.scrape();
+            Path parent = dumpFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            tmp = Files.createTempFile(parent, dumpFile.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, scrape, StandardCharsets.UTF_8);
+            Files.move(tmp, dumpFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // logging is off in stdio mode; the next run tries again (an exception escaping would cancel the schedule)
+        } finally {
+            deleteIfExists(tmp);
+        }
+    }
+
+    private static void deleteIfExists(final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // a leftover temporary file is harmless, the next run writes a new one
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        dump();
+    }
+}
@@ -0,0 +1,21 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Retries of read-only management API calls that failed transiently (429, 502, 503, 504 or I/O errors).
+ *
+ * @param maxAttempts    attempts including the first one
+ * @param initialBackoff upper bound of the first (randomized) backoff; the bound doubles with every retry
+ * @param maxBackoff     upper bound of any backoff
+ */
+@ConfigurationProperties("hawkbit.mcp.retry")
+public record RetryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("100ms") Duration initialBackoff,
+        @DefaultValue("2s") Duration maxBackoff) {
+}
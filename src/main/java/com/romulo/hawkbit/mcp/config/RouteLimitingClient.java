@@ -0,0 +1,139 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Feign {@link Client} that caps concurrent requests per scheme/host/port and applies the configured timeouts instead
+ * of the per-proxy Feign defaults. A request holds its permit until its response body is closed, since the connection
+ * stays busy while Feign reads the body, so the cap bounds the open connections per route.
+ */
+class RouteLimitingClient implements Client {
+
+    private final Client delegate;
+    private final Request.Options options;
+    private final int maxPerRoute;
+    private final ConcurrentMap<String, Semaphore> routes = new ConcurrentHashMap<>();
+
+    RouteLimitingClient(final Client delegate, final Request.Options options, final int maxPerRoute) {
+        this.delegate = delegate;
+        this.options = options;
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    @Override
+    public Response execute(final Request request, final Request.Options ignored) throws IOException {
+        URI uri = URI.create(request.url());
+        Semaphore route = routes.computeIfAbsent(uri.getScheme() + "://" + uri.getAuthority(),
+                key -> new Semaphore(maxPerRoute));
+        try {
+            route.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + uri.getAuthority());
+        }
+        Permit permit = new Permit(route);
+        try {
+            Response response = delegate.execute(request, options);
+            if (response.body() == null) {
+                permit.release();
+                return response;
+            }
+            return response.toBuilder().body(new PermitReleasingBody(response.body(), permit)).build();
+        } catch (IOException | RuntimeException | Error e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    // Released once, whichever of the body, its stream or its reader is closed first
+    private static final class Permit {
+
+        private final Semaphore route;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(final Semaphore route) {
+            this.route = route;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                route.release();
+            }
+        }
+    }
+
+    private static final class PermitReleasingBody implements Response.Body {
+
+        private final Response.Body body;
+        private final Permit permit;
+
+        PermitReleasingBody(final Response.Body body, final Permit permit) {
+            this.body = body;
+            this.permit = permit;
+        }
+
+        @Override
+        public Integer length() {
+            return body.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return body.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(body.asInputStream()) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(final Charset charset) throws IOException {
+            return new FilterReader(body.asReader(charset)) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                body.close();
+            } finally {
+                permit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.romulo.hawkbit.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("hawkbit.mcp.scan")
+public record ScanProperties(
+        @DefaultValue("200") int pageSize,
+        @DefaultValue("2000") int maxItems) {
+}
@@ -0,0 +1,22 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled        keep an in-memory mirror of the targets
+ * @param syncInterval   delay between incremental syncs of changed targets
+ * @param reseedInterval how often the mirror is rebuilt from a full scan, which also drops deleted targets
+ * @param maxTargets     upper bound of mirrored targets
+ * @param maxStaleness   default freshness bound of index lookups
+ */
+@ConfigurationProperties("hawkbit.mcp.target-index")
+public record TargetIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30s") Duration syncInterval,
+        @DefaultValue("6h") Duration reseedInterval,
+        @DefaultValue("200000") int maxTargets,
+        @DefaultValue("2m") Duration maxStaleness) {
+}
@@ -0,0 +1,48 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.romulo.hawkbit.mcp.client.TenantContext;
+
+/**
+ * Additional tenants served by this process next to the default one ({@code hawkbit.tenant}). Tools accept a
+ * {@code tenant} argument naming one of the entries.
+ * <p>
+ * The argument is not an access control: every MCP client of the process may act on every configured tenant with its
+ * credentials. That is fine for stdio, where the process belongs to a single client, so the HTTP transport refuses to
+ * start with entries unless {@code allowHttp} is set.
+ *
+ * @param maxClients  bound of the cache of per-tenant API proxies
+ * @param idleTimeout proxies unused for this long are evicted and recreated on the next call
+ * @param allowHttp   serve the entries over the HTTP transport, to every client that may connect to it
+ * @param entries     tenant credentials by the name tools select them with
+ */
+@ConfigurationProperties("hawkbit.mcp.tenants")
+public record TenantProperties(
+        @DefaultValue("500") int maxClients,
+        @DefaultValue("30m") Duration idleTimeout,
+        @DefaultValue("false") boolean allowHttp,
+        @DefaultValue Map<String, Credentials> entries) {
+
+    /**
+     * @param tenantId hawkBit tenant, the entry name if not set
+     */
+    public record Credentials(String tenantId, String username, String password) {
+    }
+
+    /**
+     * The names a tool call may select, the default tenant first.
+     */
+    public Set<String> names() {
+        Set<String> names = new LinkedHashSet<>();
+        names.add(TenantContext.DEFAULT);
+        names.addAll(entries.keySet());
+        return names;
+    }
+}
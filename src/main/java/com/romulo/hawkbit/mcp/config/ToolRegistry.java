@@ -0,0 +1,157 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.method.tool.ReturnMode;
+import org.springaicommunity.mcp.method.tool.SyncMcpToolMethodCallback;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+
+/**
+ * Tool specifications from the descriptors generated at build time by {@link ToolRegistryGenerator}. The descriptors
+ * hold the {@link Tool} exactly as annotation scanning builds it (title, hints, input and output schemas); calls go
+ * through the same method callback as the annotation path, so arguments, results and errors are identical. Only the
+ * schema derivation is skipped at runtime.
+ * <p>
+ * The registry is only used when it matches the code: if the file is missing or unreadable (e.g. classes compiled by
+ * an IDE), a described method is gone, or the fingerprint of a tool method (its annotations, parameters and return
+ * type) changed, {@link #load} logs why and returns {@code null}, and the caller falls back to annotation scanning.
+ */
+final class ToolRegistry {
+
+    static final String LOCATION = "META-INF/hawkbit-mcp/tools.json";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ToolRegistry.class);
+
+    private ToolRegistry() {
+    }
+
+    static List<SyncToolSpecification> load(final List<Object> toolBeans, final ObjectMapper objectMapper) {
+        ClassPathResource resource = new ClassPathResource(LOCATION);
+        if (!resource.exists()) {
+            LOG.warn("No tool registry at {}, scanning the tool annotations instead", LOCATION);
+            return null;
+        }
+        List<Descriptor> descriptors;
+        try (InputStream in = resource.getInputStream()) {
+            descriptors = objectMapper.readValue(in, new TypeReference<List<Descriptor>>() {
+            });
+        } catch (IOException e) {
+            LOG.warn("Unreadable tool registry {} ({}), scanning the tool annotations instead", LOCATION,
+                    e.getMessage());
+            return null;
+        }
+
+        Map<String, Object> beans = toolBeans.stream()
+                .collect(Collectors.toMap(bean -> ClassUtils.getUserClass(bean).getName(), bean -> bean));
+        Map<Method, Descriptor> methods = new LinkedHashMap<>();
+        for (Descriptor descriptor : descriptors) {
+            Object bean = beans.get(descriptor.bean());
+            if (bean == null) {
+                continue; // a conditional service that is not active
+            }
+            Method method = descriptor.resolve(ClassUtils.getUserClass(bean));
+            if (method == null) {
+                LOG.warn("Tool registry {} is out of date: {}.{} is no longer a tool method, scanning the tool"
+                        + " annotations instead", LOCATION, descriptor.bean(), descriptor.method());
+                return null;
+            }
+            if (!fingerprint(method).equals(descriptor.fingerprint())) {
+                LOG.warn("Tool registry {} is out of date: the annotations or parameters of {}.{} changed, scanning"
+                        + " the tool annotations instead", LOCATION, descriptor.bean(), descriptor.method());
+                return null;
+            }
+            methods.put(method, descriptor);
+        }
+        Set<Method> annotated = toolBeans.stream()
+                .flatMap(bean -> Arrays.stream(ClassUtils.getUserClass(bean).getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(McpTool.class))
+                .collect(Collectors.toSet());
+        if (!methods.keySet().equals(annotated)) {
+            annotated.removeAll(methods.keySet());
+            LOG.warn("Tool registry {} is out of date: it does not describe {}, scanning the tool annotations instead",
+                    LOCATION, annotated.stream().map(Method::getName).sorted().toList());
+            return null;
+        }
+
+        return methods.entrySet().stream()
+                .map(entry -> specification(entry.getValue(), beans.get(entry.getValue().bean()), entry.getKey()))
+                .toList();
+    }
+
+    // Same return mode as the annotation provider derives: structured when the tool has an output schema
+    private static SyncToolSpecification specification(final Descriptor descriptor, final Object bean,
+            final Method method) {
+        Class<?> returnType = method.getReturnType();
+        ReturnMode returnMode = (descriptor.tool().outputSchema() != null) ? ReturnMode.STRUCTURED
+                : (returnType == void.class || returnType == Void.class) ? ReturnMode.VOID : ReturnMode.TEXT;
+        return SyncToolSpecification.builder()
+                .tool(descriptor.tool())
+                .callHandler(new SyncMcpToolMethodCallback(returnMode, method, bean))
+                .build();
+    }
+
+    /**
+     * SHA-256 over everything the tool descriptor is derived from: the return type, the annotations of the method and
+     * the name, type and annotations of each parameter.
+     */
+    static String fingerprint(final Method method) {
+        StringBuilder source = new StringBuilder(method.getGenericReturnType().getTypeName());
+        for (Annotation annotation : method.getDeclaredAnnotations()) {
+            source.append('\n').append(annotation);
+        }
+        for (Parameter parameter : method.getParameters()) {
+            source.append('\n').append(parameter.getName()).append(' ')
+                    .append(parameter.getParameterizedType().getTypeName());
+            for (Annotation annotation : parameter.getDeclaredAnnotations()) {
+                source.append(' ').append(annotation);
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString()
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    record Descriptor(String bean, String method, List<String> parameterTypes, String fingerprint, Tool tool) {
+
+        Method resolve(final Class<?> beanClass) {
+            try {
+                Class<?>[] types = new Class<?>[parameterTypes.size()];
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = ClassUtils.forName(parameterTypes.get(i), beanClass.getClassLoader());
+                }
+                Method resolved = beanClass.getDeclaredMethod(method, types);
+                return resolved.isAnnotationPresent(McpTool.class) ? resolved : null;
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.spring.SyncMcpAnnotationProviders;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+
+/**
+ * Build step (exec-maven-plugin, process-classes phase) writing the descriptors of all {@link McpTool} methods to
+ * {@value ToolRegistry#LOCATION}: the {@link Tool} built by annotation scanning, the method to invoke and its
+ * fingerprint. At startup {@link ToolRegistry} reads the file instead of reflecting over the services and deriving the
+ * schemas of the SDK request bodies again.
+ * <p>
+ * Usage: {@code ToolRegistryGenerator <classes directory>}
+ */
+public final class ToolRegistryGenerator {
+
+    private static final String TOOL_PACKAGE = "com.romulo.hawkbit.mcp.service";
+
+    private ToolRegistryGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ToolRegistryGenerator <classes directory>");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode descriptors = objectMapper.createArrayNode();
+
+        List<Object> services = toolServices();
+        // the tools exactly as the annotation provider builds them; the instances are never called
+        Map<String, Tool> tools = SyncMcpAnnotationProviders.toolSpecifications(services).stream()
+                .map(SyncToolSpecification::tool)
+                .collect(Collectors.toMap(Tool::name, Function.identity()));
+        for (Object service : services) {
+            Arrays.stream(service.getClass().getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(McpTool.class))
+                    .sorted(Comparator.comparing(Method::getName))
+                    .forEach(method -> descriptors.add(descriptor(objectMapper, method, tools.get(toolName(method)))));
+        }
+
+        Path file = Path.of(args[0]).resolve(ToolRegistry.LOCATION);
+        Files.createDirectories(file.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), descriptors);
+    }
+
+    /**
+     * One instance of each service declaring tools, created without calling its constructor.
+     */
+    static List<Object> toolServices() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+        ClassLoader classLoader = ToolRegistryGenerator.class.getClassLoader();
+        SpringObjenesis objenesis = new SpringObjenesis();
+        return scanner.findCandidateComponents(TOOL_PACKAGE).stream()
+                .map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                .filter(service -> Arrays.stream(service.getDeclaredMethods())
+                        .anyMatch(method -> method.isAnnotationPresent(McpTool.class)))
+                .sorted(Comparator.comparing(Class::getName))
+                .map(service -> (Object) objenesis.newInstance(service))
+                .toList();
+    }
+
+    private static String toolName(final Method method) {
+        String name = method.getAnnotation(McpTool.class).name();
+        return name.isEmpty() ? method.getName() : name;
+    }
+
+    private static ObjectNode descriptor(final ObjectMapper objectMapper, final Method method, final Tool tool) {
+        if (tool == null) {
+            throw new IllegalStateException("Annotation scanning built no tool for " + method);
+        }
+        ObjectNode descriptor = objectMapper.createObjectNode();
+        descriptor.put("bean", method.getDeclaringClass().getName());
+        descriptor.put("method", method.getName());
+        ArrayNode parameterTypes = descriptor.putArray("parameterTypes");
+        Arrays.stream(method.getParameterTypes()).forEach(type -> parameterTypes.add(type.getName()));
+        descriptor.put("fingerprint", ToolRegistry.fingerprint(method));
+        descriptor.set("tool", objectMapper.valueToTree(tool));
+        return descriptor;
+    }
+}
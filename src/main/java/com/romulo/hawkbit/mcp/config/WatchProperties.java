@@ -0,0 +1,21 @@
+package com.romulo.hawkbit.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxSubscriptions maximum number of watchActions subscriptions kept, least recently used ones are dropped
+ * @param idleTimeout      subscriptions not polled for this long are dropped
+ * @param maxItems         maximum number of changed actions returned by one poll
+ * @param lag              how far before the newest delivered change a poll reads again, for changes whose
+ *                         transaction committed after later ones were delivered
+ */
+@ConfigurationProperties("hawkbit.mcp.watch")
+public record WatchProperties(
+        @DefaultValue("1000") long maxSubscriptions,
+        @DefaultValue("30m") Duration idleTimeout,
+        @DefaultValue("500") int maxItems,
+        @DefaultValue("5s") Duration lag) {
+}
@@ -0,0 +1,186 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.PageScanner.ScanResult;
+import com.romulo.hawkbit.mcp.support.ProgressReporter;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+@Service
+public class ActionCancelService {
+
+    private static final String SORT_BY_ID = "id:asc";
+    // the full representation carries the target link the controllerId is taken from
+    private static final String FULL_REPRESENTATION = "full";
+    private static final int SAMPLE_SIZE = 5;
+    private static final int ACTIONS_PER_BATCH = 10;
+    private static final int MAX_REPORTED_FAILURES = 200;
+
+    private final MgmtActionRestApi actionRestApi;
+    private final MgmtTargetRestApi mgmtTargetRestApi;
+    private final PageScanner pageScanner;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final FiqlValidator fiqlValidator;
+
+    ActionCancelService(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties, final FiqlValidator fiqlValidator) {
+        this.actionRestApi = mgmtApiFactory.mgmtService(MgmtActionRestApi.class);
+        this.mgmtTargetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.pageScanner = pageScanner;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.fiqlValidator = fiqlValidator;
+    }
+
+    @McpTool(name = "cancelActions", description = """
+            Cancel all actions matching a FIQL filter, e.g. after a bad deployment:
+            active==true;distributionSet.id==42. Preview mode returns the number of matching actions and a sample.
+            When confirmed, the matching actions are collected first and then canceled concurrently; the result
+            lists every action that could not be canceled. force=true force-quits actions that are already being
+            canceled (a soft cancel must come first).""")
+    public Map<String, Object> cancelActions(
+            @McpToolParam(description = "Feed Item Query Language (FIQL) filter selecting the actions to cancel", required = true) String rsqlParam,
+
+            @McpToolParam(description = "Force-quit actions that are already being canceled (default: false)", required = false) Boolean force,
+
+            @McpToolParam(description = "Maximum number of actions to cancel (default: all matching actions)", required = false) Integer maxActions,
+
+            @McpToolParam(description = "Number of cancel requests in flight (default: server setting)", required = false) Integer parallelism,
+
+            @McpToolParam(description = "Set to true to persist changes. Default false (preview only).", required = false) Boolean confirm,
+
+            McpSyncServerExchange exchange,
+
+            @McpProgressToken String progressToken) {
+
+        if (rsqlParam == null || rsqlParam.isBlank()) {
+            throw new IllegalArgumentException("rsqlParam is required, refusing to cancel every action");
+        }
+        String query = fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam);
+        int finalMaxActions = (maxActions != null && maxActions > 0) ? maxActions : Integer.MAX_VALUE;
+        boolean finalForce = Boolean.TRUE.equals(force);
+
+        if (confirm == null || !confirm) {
+            PagedList<MgmtAction> page = actions(query, 0, SAMPLE_SIZE);
+            List<Map<String, Object>> sample = new ArrayList<>();
+            for (MgmtAction action : page.getContent()) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("actionId", action.getActionId());
+                item.put("controllerId", controllerId(action));
+                item.put("status", action.getStatus());
+                item.put("detailStatus", action.getDetailStatus());
+                sample.add(item);
+            }
+            Map<String, Object> preview = new LinkedHashMap<>();
+            preview.put("message", "PREVIEW MODE: No changes were made. Please confirm to proceed.");
+            preview.put("filter", query);
+            preview.put("matchingActions", page.getTotal());
+            preview.put("actionsToCancel", Math.min(page.getTotal(), finalMaxActions));
+            preview.put("force", finalForce);
+            preview.put("sample", sample);
+            return preview;
+        }
+
+        long started = System.nanoTime();
+        // collect first: canceled actions change state and would shift the pages of a filter like active==true
+        List<ActionRef> selected = new ArrayList<>();
+        List<Map<String, Object>> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong failed = new AtomicLong();
+        ScanResult scan = pageScanner.<MgmtAction>forEach((offset, limit) -> actions(query, offset, limit),
+                0, finalMaxActions, action -> {
+                    String controllerId = controllerId(action);
+                    if (controllerId == null) {
+                        failed.incrementAndGet();
+                        addFailure(failures, action.getActionId(), null, "Action has no target link");
+                    } else {
+                        selected.add(new ActionRef(action.getActionId(), controllerId));
+                    }
+                });
+
+        ProgressReporter progress = ProgressReporter.of(exchange, progressToken);
+        AtomicLong canceled = new AtomicLong();
+        double total = selected.size();
+        batchExecutor.run(selected, ACTIONS_PER_BATCH, bulkProperties.parallelism(parallelism), batch -> {
+            for (ActionRef action : batch) {
+                try {
+                    mgmtTargetRestApi.cancelAction(action.controllerId(), action.actionId(), finalForce);
+                    canceled.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    addFailure(failures, action.actionId(), action.controllerId(), String.valueOf(e.getMessage()));
+                }
+            }
+            long done = canceled.get() + failed.get();
+            progress.report(done, total, done + " of " + selected.size() + " actions processed, "
+                    + canceled.get() + " canceled");
+            return null;
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("status", failed.get() == 0 ? "SUCCESS" : (canceled.get() == 0 ? "FAILED" : "PARTIAL"));
+        report.put("filter", query);
+        report.put("force", finalForce);
+        report.put("matchingActions", scan.total());
+        report.put("canceled", canceled.get());
+        report.put("failed", failed.get());
+        report.put("failures", failures);
+        report.put("failuresTruncated", failed.get() > failures.size());
+        report.put("truncated", scan.nextOffset() != null);
+        report.put("elapsedMillis", (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private PagedList<MgmtAction> actions(final String query, final int offset, final int limit) {
+        return actionRestApi.getActions(query, offset, limit, SORT_BY_ID, FULL_REPRESENTATION).getBody();
+    }
+
+    private static void addFailure(final List<Map<String, Object>> failures, final Long actionId,
+            final String controllerId, final String error) {
+        synchronized (failures) {
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                Map<String, Object> failure = new LinkedHashMap<>();
+                failure.put("actionId", actionId);
+                failure.put("controllerId", controllerId);
+                failure.put("error", error);
+                failures.add(failure);
+            }
+        }
+    }
+
+    // The target link ends with /targets/{controllerId}
+    private static String controllerId(final MgmtAction action) {
+        return action.getLink("target")
+                .map(Link::getHref)
+                .map(href -> href.substring(href.lastIndexOf('/') + 1))
+                .map(id -> UriUtils.decode(id, StandardCharsets.UTF_8))
+                .orElse(null);
+    }
+
+    private record ActionRef(Long actionId, String controllerId) {
+    }
+}
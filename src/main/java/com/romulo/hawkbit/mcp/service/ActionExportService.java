@@ -0,0 +1,322 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.config.ExportProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchResult;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchRun;
+import com.romulo.hawkbit.mcp.support.LocalFiles;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.PageScanner.ScanResult;
+import com.romulo.hawkbit.mcp.support.ProgressReporter;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+@Service
+public class ActionExportService {
+
+    private static final String SORT_BY_ID = "id:asc";
+    private static final int TARGETS_PER_BATCH = 10;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final MgmtTargetRestApi mgmtTargetRestApi;
+    private final PageScanner pageScanner;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final ObjectMapper objectMapper;
+    private final FiqlValidator fiqlValidator;
+    private final ExportProperties exportProperties;
+
+    ActionExportService(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties, final ObjectMapper objectMapper,
+            final FiqlValidator fiqlValidator, final ExportProperties exportProperties) {
+        this.mgmtTargetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.pageScanner = pageScanner;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.objectMapper = objectMapper;
+        this.fiqlValidator = fiqlValidator;
+        this.exportProperties = exportProperties;
+    }
+
+    @McpTool(name = "exportActionHistory", description = """
+            Export the complete action history (and optionally every action status entry) of the targets matching a
+            FIQL filter to a gzip-compressed NDJSON file in the server's export directory. Each target is written once
+            its history is complete and the file only appears when the export succeeded. Nothing is returned inline:
+            the result only contains the file path and counts. Each line is either
+            {"type":"action","controllerId":...,"action":{...}} or
+            {"type":"actionStatus","controllerId":...,"actionId":...,"status":{...}}.""")
+    public Map<String, Object> exportActionHistory(
+            @McpToolParam(description = "FIQL filter selecting the targets (default: all targets)", required = false) String targetRsqlParam,
+
+            @McpToolParam(description = "FIQL filter applied to each target's action history, e.g. status==error", required = false) String actionRsqlParam,
+
+            @McpToolParam(description = "Also export the status entries of every action (one extra paged walk per action)", required = false) Boolean includeStatus,
+
+            @McpToolParam(description = "Path of the .ndjson.gz file to create, relative to the server's export directory (default: a new file name)", required = false) String filePath,
+
+            @McpToolParam(description = "Maximum number of targets to export (default: all matching targets)", required = false) Integer maxTargets,
+
+            @McpToolParam(description = "Number of targets exported concurrently (default: server setting)", required = false) Integer parallelism,
+
+            McpSyncServerExchange exchange,
+
+            @McpProgressToken String progressToken) {
+
+        String targetQuery = fiqlValidator.normalize(FiqlCatalog.TARGETS, targetRsqlParam);
+        String actionQuery = fiqlValidator.normalize(FiqlCatalog.ACTIONS, actionRsqlParam);
+        Path file = outputFile(filePath);
+        int finalMaxTargets = (maxTargets != null && maxTargets > 0) ? maxTargets : Integer.MAX_VALUE;
+        boolean withStatus = Boolean.TRUE.equals(includeStatus);
+        ProgressReporter progress = ProgressReporter.of(exchange, progressToken);
+
+        long started = System.nanoTime();
+        AtomicLong exportedTargets = new AtomicLong();
+        AtomicLong actions = new AtomicLong();
+        AtomicLong statuses = new AtomicLong();
+        List<Map<String, Object>> failedTargets = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong failed = new AtomicLong();
+        ScanResult scan;
+
+        // written under a temporary name and only moved into place once complete, a failed export leaves no file
+        Path partial = createTempFile(file.getParent(), "." + file.getFileName() + ".", ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(partial)))) {
+                SegmentSink sink = new SegmentSink(out);
+
+                BatchRun<String, Void> run = batchExecutor.start(bulkProperties.parallelism(parallelism),
+                        controllerIds -> {
+                            for (String controllerId : controllerIds) {
+                                try (TargetSegment segment = new TargetSegment(partial.getParent())) {
+                                    try {
+                                        exportTarget(controllerId, actionQuery, withStatus, segment);
+                                    } catch (RuntimeException e) {
+                                        failed.incrementAndGet();
+                                        if (failedTargets.size() < MAX_REPORTED_ERRORS) {
+                                            failedTargets.add(Map.of("controllerId", controllerId,
+                                                    "error", String.valueOf(e.getMessage())));
+                                        }
+                                        continue;
+                                    }
+                                    sink.append(segment);
+                                    exportedTargets.incrementAndGet();
+                                    actions.addAndGet(segment.actions);
+                                    statuses.addAndGet(segment.statuses);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            }
+                            long done = exportedTargets.get() + failed.get();
+                            progress.report(done, null, done + " targets exported, " + actions.get()
+                                    + " actions written");
+                            return null;
+                        });
+
+                List<String> batch = new ArrayList<>(TARGETS_PER_BATCH);
+                List<BatchResult<String, Void>> results;
+                try {
+                    scan = pageScanner.<MgmtTarget>forEach(
+                            (offset, limit) -> mgmtTargetRestApi.getTargets(targetQuery, offset, limit, SORT_BY_ID)
+                                    .getBody(),
+                            0, finalMaxTargets, target -> {
+                                batch.add(target.getControllerId());
+                                if (batch.size() == TARGETS_PER_BATCH) {
+                                    // blocks while the maximum number of batches is in flight
+                                    run.submit(List.copyOf(batch));
+                                    batch.clear();
+                                }
+                            });
+                    if (!batch.isEmpty()) {
+                        run.submit(List.copyOf(batch));
+                    }
+                } finally {
+                    // the submitted batches write to the file, it must not be closed under them
+                    results = run.await();
+                }
+                for (BatchResult<String, Void> result : results) {
+                    if (!result.success()) {
+                        throw new IllegalStateException("Export to " + file + " failed: " + result.error());
+                    }
+                }
+            }
+            Files.move(partial, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write export file " + file, e);
+        } finally {
+            deleteIfExists(partial);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("status", failed.get() == 0 ? "SUCCESS" : (exportedTargets.get() == 0 ? "FAILED" : "PARTIAL"));
+        report.put("file", file.toString());
+        report.put("fileBytes", fileSize(file));
+        report.put("matchingTargets", scan.total());
+        report.put("exportedTargets", exportedTargets.get());
+        report.put("failedTargets", failed.get());
+        report.put("failedTargetErrors", failedTargets);
+        report.put("actions", actions.get());
+        report.put("actionStatuses", statuses.get());
+        report.put("truncated", scan.nextOffset() != null);
+        report.put("elapsedMillis", (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private void exportTarget(final String controllerId, final String actionQuery, final boolean withStatus,
+            final TargetSegment segment) {
+        pageScanner.<Object>forEach(
+                (offset, limit) -> mgmtTargetRestApi
+                        .getActionHistory(controllerId, actionQuery, offset, limit, SORT_BY_ID).getBody(),
+                0, Integer.MAX_VALUE, action -> {
+                    ObjectNode actionNode = withoutLinks(action);
+                    ObjectNode line = objectMapper.createObjectNode();
+                    line.put("type", "action");
+                    line.put("controllerId", controllerId);
+                    line.set("action", actionNode);
+                    segment.add(line);
+                    segment.actions++;
+
+                    if (withStatus) {
+                        long actionId = actionNode.path("id").asLong();
+                        pageScanner.<Object>forEach(
+                                (offset, limit) -> mgmtTargetRestApi
+                                        .getActionStatusList(controllerId, actionId, offset, limit, SORT_BY_ID)
+                                        .getBody(),
+                                0, Integer.MAX_VALUE, status -> {
+                                    ObjectNode statusLine = objectMapper.createObjectNode();
+                                    statusLine.put("type", "actionStatus");
+                                    statusLine.put("controllerId", controllerId);
+                                    statusLine.put("actionId", actionId);
+                                    statusLine.set("status", withoutLinks(status));
+                                    segment.add(statusLine);
+                                    segment.statuses++;
+                                });
+                    }
+                });
+    }
+
+    private ObjectNode withoutLinks(final Object value) {
+        ObjectNode node = objectMapper.valueToTree(value);
+        node.remove(List.of("_links", "links"));
+        return node;
+    }
+
+    private Path outputFile(final String filePath) {
+        String name = (filePath == null || filePath.isBlank())
+                ? "hawkbit-actions-" + System.currentTimeMillis() + "-" + UUID.randomUUID() + ".ndjson.gz"
+                : filePath;
+        Path file = LocalFiles.resolve(exportProperties.directory(), name);
+        if (Files.exists(file)) {
+            throw new IllegalArgumentException("File already exists: " + filePath);
+        }
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the directory of " + file, e);
+        }
+        return file;
+    }
+
+    private static Path createTempFile(final Path directory, final String prefix, final String suffix) {
+        try {
+            return Files.createTempFile(directory, prefix, suffix);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a temporary file in " + directory, e);
+        }
+    }
+
+    private static void deleteIfExists(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // best effort, the export already succeeded or failed for another reason
+        }
+    }
+
+    private static long fileSize(final Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The lines of one target, written to a temporary file of their own as the pages arrive. A target that fails
+     * halfway leaves nothing in the export, and memory does not grow with the length of its history.
+     */
+    private final class TargetSegment implements Closeable {
+
+        private final Path path;
+        private final Writer writer;
+        private long actions;
+        private long statuses;
+
+        TargetSegment(final Path directory) throws IOException {
+            this.path = Files.createTempFile(directory, ".segment-", ".ndjson");
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        }
+
+        void add(final ObjectNode line) {
+            try {
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write export line", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                writer.close();
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // The segments of concurrent target exports are appended as one block per target
+    private static final class SegmentSink {
+
+        private final OutputStream out;
+
+        SegmentSink(final OutputStream out) {
+            this.out = out;
+        }
+
+        synchronized void append(final TargetSegment segment) throws IOException {
+            segment.writer.flush();
+            Files.copy(segment.path, out);
+        }
+    }
+}
@@ -1,20 +1,52 @@
 package com.romulo.hawkbit.mcp.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.client.TenantContext;
+import com.romulo.hawkbit.mcp.config.WatchProperties;
+import com.romulo.hawkbit.mcp.support.ChangeWindow;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class ActionService {
 
     private final MgmtActionRestApi actionRestApi;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+    private final PageScanner pageScanner;
+    private final WatchProperties watchProperties;
+    private final Cache<String, ActionSubscription> subscriptions;
 
-    public ActionService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.actionRestApi = hawkbitClient.mgmtService(MgmtActionRestApi.class, tenant);
+    public ActionService(final MgmtApiFactory mgmtApiFactory, final ResponseShaper responseShaper,
+            final FiqlValidator fiqlValidator, final PageScanner pageScanner, final WatchProperties watchProperties) {
+        this.actionRestApi = mgmtApiFactory.mgmtService(MgmtActionRestApi.class);
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
+        this.pageScanner = pageScanner;
+        this.watchProperties = watchProperties;
+        this.subscriptions = Caffeine.newBuilder()
+                .maximumSize(watchProperties.maxSubscriptions())
+                .expireAfterAccess(watchProperties.idleTimeout())
+                .build();
     }
 
     @McpTool(name = "queryActions", description = "Retrieves information about Actions (Search/List or Get Single Details).")
@@ -29,26 +61,122 @@ public class ActionService {
 
             @McpToolParam(description = "Limit for pagination (max: 50, default: 50)", required = false) Integer limit,
 
-            @McpToolParam(description = "Sort parameter. Example: id:desc", required = false) String sortParam) {
+            @McpToolParam(description = "Sort parameter. Example: id:desc", required = false) String sortParam,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,status,detailStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
 
         int finalOffset = (offset != null) ? offset : 0;
         int finalLimit = (limit != null) ? limit : 50;
 
         switch (queryType) {
             case SEARCH:
-                return actionRestApi.getActions(rsqlParam, finalOffset, finalLimit, sortParam,
-                        MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+                String query = fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam);
+                return responseShaper.shape(actionRestApi.getActions(query, finalOffset, finalLimit, sortParam,
+                        MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody(), fields, format);
 
             case GET_DETAILS:
                 if (actionId == null) {
                     throw new IllegalArgumentException("Action ID is required for GET_DETAILS");
                 }
-                return actionRestApi.getAction(actionId).getBody();
+                return responseShaper.shape(actionRestApi.getAction(actionId).getBody(), fields, format);
 
             default:
                 throw new IllegalArgumentException("Unsupported query type: " + queryType);
         }
     }
+
+    @McpTool(name = "watchActions", description = """
+            Incremental feed of action changes. Call without subscriptionId to start watching the actions matching a
+            FIQL filter; then call again with the returned subscriptionId to receive only the actions created or
+            modified since the previous call. hasMore=true means more changes are waiting, poll again right away.
+            Changes whose transaction commits late are still reported if they show up within a few seconds.""")
+    public Map<String, Object> watchActions(
+            @McpToolParam(description = "Subscription returned by a previous call (omit to start a new subscription)", required = false) String subscriptionId,
+
+            @McpToolParam(description = "Feed Item Query Language (FIQL) filter of the watched actions, e.g. rollout.id==12 (new subscriptions only)", required = false) String rsqlParam,
+
+            @McpToolParam(description = "Start of a new subscription as epoch milliseconds. Default: now, i.e. only later changes are reported", required = false) Long since,
+
+            @McpToolParam(description = "Maximum number of changed actions to return (default: server setting)", required = false) Integer maxItems,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,status,detailStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+
+        ActionSubscription subscription;
+        if (subscriptionId == null) {
+            subscription = new ActionSubscription(fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam),
+                    (since != null) ? since : System.currentTimeMillis());
+            subscriptionId = UUID.randomUUID().toString();
+            subscriptions.put(subscriptionId, subscription);
+        } else {
+            subscription = subscriptions.getIfPresent(subscriptionId);
+            if (subscription == null || !subscription.tenant.equals(TenantContext.current())) {
+                throw new IllegalArgumentException("Unknown or expired subscription: " + subscriptionId
+                        + ". Start a new one without subscriptionId.");
+            }
+        }
+
+        int finalMaxItems = (maxItems != null && maxItems > 0) ? Math.min(maxItems, watchProperties.maxItems())
+                : watchProperties.maxItems();
+        List<MgmtAction> changes = subscription.poll(finalMaxItems);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("subscriptionId", subscriptionId);
+        result.put("watermark", subscription.watermark());
+        result.put("count", changes.size());
+        result.put("hasMore", changes.size() == finalMaxItems);
+        result.put("items", responseShaper.shape(changes, fields, format));
+        return result;
+    }
+
+    /**
+     * A watched action filter and its {@link ChangeWindow}. Polls read from {@code watch.lag} before the highest
+     * lastModifiedAt delivered so far, because an action may commit after later ones were already reported, and skip
+     * the changes the window already delivered.
+     */
+    private final class ActionSubscription {
+
+        private static final String SORT = "lastModifiedAt:asc,id:asc";
+
+        private final String tenant = TenantContext.current();
+        private final String filter;
+        private final ChangeWindow window;
+
+        private ActionSubscription(final String filter, final long since) {
+            this.filter = filter;
+            this.window = new ChangeWindow(since, watchProperties.lag().toMillis());
+        }
+
+        synchronized List<MgmtAction> poll(final int maxItems) {
+            String changedSince = "lastModifiedAt=ge=" + window.readFrom();
+            String query = (filter == null) ? changedSince : "(" + filter + ");" + changedSince;
+            List<MgmtAction> changes = new ArrayList<>();
+            // changes already delivered within the window come back and are skipped, so read that many more
+            pageScanner.<MgmtAction>forEach(
+                    (offset, limit) -> actions(query, offset, limit), 0, maxItems + window.redelivered(),
+                    action -> {
+                        if (changes.size() < maxItems
+                                && window.isNew(action.getActionId(), action.getLastModifiedAt())) {
+                            changes.add(action);
+                        }
+                    });
+
+            changes.forEach(action -> window.delivered(action.getActionId(), action.getLastModifiedAt()));
+            return changes;
+        }
+
+        synchronized long watermark() {
+            return window.watermark();
+        }
+
+        private PagedList<MgmtAction> actions(final String query, final int offset, final int limit) {
+            return actionRestApi.getActions(query, offset, limit, SORT,
+                    MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+        }
+    }
 }
 
 enum ActionQueryType {
@@ -0,0 +1,23 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.util.Map;
+
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.stereotype.Service;
+
+import com.romulo.hawkbit.mcp.support.CatalogCache;
+
+@Service
+public class DiagnosticsService {
+
+    private final CatalogCache catalogCache;
+
+    public DiagnosticsService(final CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    @McpTool(name = "getCacheStats", description = "Get hit/miss counters, hit rate, evictions and size of the catalog caches (target types, tags, filters, compatibilities).")
+    public Map<String, Object> getCacheStats() {
+        return catalogCache.stats();
+    }
+}
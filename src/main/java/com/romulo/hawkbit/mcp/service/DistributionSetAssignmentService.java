@@ -0,0 +1,305 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.mgmt.json.model.MgmtMaintenanceWindowRequestBody;
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtActionType;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtDistributionSet;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtTargetAssignmentRequestBody;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtTargetAssignmentResponseBody;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Service;
+
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchRun;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.ProgressReporter;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+@Service
+public class DistributionSetAssignmentService {
+
+    private static final String SORT_BY_ID = "id:asc";
+    private static final int SAMPLE_SIZE = 5;
+    private static final int IDS_PER_LOOKUP = 100;
+    private static final int MAX_REPORTED_ITEMS = 200;
+
+    private final MgmtDistributionSetRestApi distributionSetRestApi;
+    private final MgmtTargetRestApi mgmtTargetRestApi;
+    private final PageScanner pageScanner;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final FiqlValidator fiqlValidator;
+
+    DistributionSetAssignmentService(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties, final FiqlValidator fiqlValidator) {
+        this.distributionSetRestApi = mgmtApiFactory.mgmtService(MgmtDistributionSetRestApi.class);
+        this.mgmtTargetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.pageScanner = pageScanner;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.fiqlValidator = fiqlValidator;
+    }
+
+    @McpTool(name = "assignDistributionSetToTargets", description = """
+            Assign a distribution set to many targets at once, outside of a rollout. Select the targets either with a
+            FIQL filter or with a list of controller IDs (unknown IDs are reported, not assigned). Preview mode returns
+            the distribution set, the number of selected targets and a sample. When confirmed, targets are assigned in
+            batches with bounded concurrency; the result has aggregate counts, the created actions and the targets that
+            failed.""")
+    public Map<String, Object> assignDistributionSetToTargets(
+            @McpToolParam(description = "ID of the distribution set to assign", required = true) Long distributionSetId,
+
+            @McpToolParam(description = "Feed Item Query Language (FIQL) filter selecting the targets, e.g. targetType.name==gateway;updateStatus==in_sync", required = false) String rsqlParam,
+
+            @McpToolParam(description = "Controller IDs of the targets (alternative to rsqlParam)", required = false) List<String> controllerIds,
+
+            @McpToolParam(description = "Action type: FORCED (default), SOFT, TIMEFORCED or DOWNLOAD_ONLY", required = false) MgmtActionType actionType,
+
+            @McpToolParam(description = "Epoch milliseconds at which a TIMEFORCED action becomes forced (required for TIMEFORCED, not allowed otherwise)", required = false) Long forcetime,
+
+            @McpToolParam(description = "Priority of the created actions among other actions of the target (0-1000)", required = false) Integer weight,
+
+            @McpToolParam(description = "Whether the device has to confirm the actions before they are executed", required = false) Boolean confirmationRequired,
+
+            @McpToolParam(description = "Maintenance window (cron schedule, duration and timezone) restricting when the update is installed", required = false) MgmtMaintenanceWindowRequestBody maintenanceWindow,
+
+            @McpToolParam(description = """
+                    Offline update (set param to true) that is only reported but not managed by the service, e.g.
+                    defaults set in factory, manual updates or migrations from other update systems. A completed action
+                    is added to the history of the target(s). Target is set to IN_SYNC state as both assigned and
+                    installed DS are set. Note: only executed if the target has currently no running update""", required = false) Boolean offline,
+
+            @McpToolParam(description = "Maximum number of targets to assign (default: all selected targets)", required = false) Integer maxTargets,
+
+            @McpToolParam(description = "Number of targets per assignment request (default: server setting)", required = false) Integer batchSize,
+
+            @McpToolParam(description = "Number of requests in flight (default: server setting)", required = false) Integer parallelism,
+
+            @McpToolParam(description = "Set to true to persist changes. Default false (preview only).", required = false) Boolean confirm,
+
+            McpSyncServerExchange exchange,
+
+            @McpProgressToken String progressToken) {
+
+        if (distributionSetId == null) {
+            throw new IllegalArgumentException("distributionSetId is required");
+        }
+        boolean byIds = controllerIds != null && !controllerIds.isEmpty();
+        if (byIds == (rsqlParam != null && !rsqlParam.isBlank())) {
+            throw new IllegalArgumentException("Provide either rsqlParam or controllerIds, exactly one of them");
+        }
+        if ((actionType == MgmtActionType.TIMEFORCED) != (forcetime != null)) {
+            throw new IllegalArgumentException("forcetime is required for and only allowed with actionType TIMEFORCED");
+        }
+        String query = byIds ? null : fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+        Set<String> requestedIds = byIds ? new LinkedHashSet<>(controllerIds) : Set.of();
+        int finalMaxTargets = (maxTargets != null && maxTargets > 0) ? maxTargets : Integer.MAX_VALUE;
+        MgmtDistributionSet distributionSet = distributionSetRestApi.getDistributionSet(distributionSetId).getBody();
+
+        Map<String, Object> ds = new LinkedHashMap<>();
+        ds.put("id", distributionSetId);
+        ds.put("name", distributionSet != null ? distributionSet.getName() : null);
+        ds.put("version", distributionSet != null ? distributionSet.getVersion() : null);
+
+        if (confirm == null || !confirm) {
+            List<String> sample = new ArrayList<>();
+            Set<String> found = new LinkedHashSet<>();
+            long selected;
+            boolean truncated = false;
+            if (byIds) {
+                truncated = resolveIds(requestedIds, finalMaxTargets, found::add);
+                found.stream().limit(SAMPLE_SIZE).forEach(sample::add);
+                selected = found.size();
+            } else {
+                PagedList<MgmtTarget> page = mgmtTargetRestApi.getTargets(query, 0, SAMPLE_SIZE, SORT_BY_ID).getBody();
+                page.getContent().forEach(target -> sample.add(target.getControllerId()));
+                selected = Math.min(page.getTotal(), finalMaxTargets);
+            }
+            Map<String, Object> preview = new LinkedHashMap<>();
+            preview.put("message", "PREVIEW MODE: No changes were made. Please confirm to proceed.");
+            preview.put("distributionSet", ds);
+            preview.put("selection", byIds ? "controllerIds" : query);
+            preview.put("targetsToAssign", selected);
+            if (byIds && !truncated) {
+                preview.put("unknownControllerIds", unknown(requestedIds, found));
+            }
+            preview.put("actionType", actionType);
+            preview.put("forcetime", forcetime);
+            preview.put("weight", weight);
+            preview.put("confirmationRequired", confirmationRequired);
+            preview.put("maintenanceWindow", maintenanceWindow);
+            preview.put("offline", offline);
+            preview.put("sample", sample);
+            return preview;
+        }
+
+        long started = System.nanoTime();
+        int finalBatchSize = bulkProperties.chunkSize(batchSize);
+        ProgressReporter progress = ProgressReporter.of(exchange, progressToken);
+        AtomicLong processed = new AtomicLong();
+        AtomicLong assigned = new AtomicLong();
+        AtomicLong alreadyAssigned = new AtomicLong();
+        List<Object> actions = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong batches = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<Map<String, Object>> failedTargets = new ArrayList<>();
+
+        // results are aggregated as each batch completes, nothing is kept per batch
+        BatchRun<String, MgmtTargetAssignmentResponseBody> run = batchExecutor.start(
+                bulkProperties.parallelism(parallelism), batch -> {
+                    try {
+                        List<MgmtTargetAssignmentRequestBody> body = batch.stream()
+                                .map(controllerId -> assignment(controllerId, actionType, forcetime, weight,
+                                        confirmationRequired, maintenanceWindow))
+                                .toList();
+                        MgmtTargetAssignmentResponseBody response = distributionSetRestApi
+                                .createAssignedTarget(distributionSetId, body, offline).getBody();
+                        if (response != null) {
+                            assigned.addAndGet(response.getAssigned());
+                            alreadyAssigned.addAndGet(response.getAlreadyAssigned());
+                            synchronized (actions) {
+                                response.getAssignedActions().stream()
+                                        .limit(Math.max(MAX_REPORTED_ITEMS - actions.size(), 0))
+                                        .forEach(actions::add);
+                            }
+                        }
+                        return response;
+                    } finally {
+                        long done = processed.addAndGet(batch.size());
+                        progress.report(done, null, done + " targets processed, " + assigned.get() + " assigned");
+                    }
+                }, result -> {
+                    batches.incrementAndGet();
+                    if (!result.success()) {
+                        failed.addAndGet(result.items().size());
+                        result.items().stream()
+                                .limit(Math.max(MAX_REPORTED_ITEMS - failedTargets.size(), 0))
+                                .forEach(controllerId -> failedTargets.add(
+                                        Map.of("controllerId", controllerId, "error", result.error())));
+                    }
+                });
+
+        List<String> batch = new ArrayList<>(finalBatchSize);
+        Set<String> found = new LinkedHashSet<>();
+        Consumer<String> collector = controllerId -> {
+            if (byIds) {
+                found.add(controllerId); // only needed to report unknown IDs
+            }
+            batch.add(controllerId);
+            if (batch.size() == finalBatchSize) {
+                // blocks while the maximum number of batches is in flight
+                run.submit(List.copyOf(batch));
+                batch.clear();
+            }
+        };
+        boolean truncated;
+        if (byIds) {
+            truncated = resolveIds(requestedIds, finalMaxTargets, collector);
+        } else {
+            // collect first: assigned targets change state and would shift the pages of a filter like
+            // updateStatus==in_sync, so targets that still match would be skipped
+            List<String> selected = new ArrayList<>();
+            truncated = pageScanner.<MgmtTarget>forEach(
+                    (offset, limit) -> mgmtTargetRestApi.getTargets(query, offset, limit, SORT_BY_ID).getBody(),
+                    0, finalMaxTargets, target -> selected.add(target.getControllerId())).nextOffset() != null;
+            selected.forEach(collector);
+        }
+        if (!batch.isEmpty()) {
+            run.submit(List.copyOf(batch));
+        }
+        run.await();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        long succeeded = assigned.get() + alreadyAssigned.get();
+        report.put("status", failed.get() == 0 ? "SUCCESS" : (succeeded == 0 ? "FAILED" : "PARTIAL"));
+        report.put("distributionSet", ds);
+        report.put("processed", processed.get());
+        report.put("assigned", assigned.get());
+        report.put("alreadyAssigned", alreadyAssigned.get());
+        report.put("failed", failed.get());
+        report.put("failedTargets", failedTargets);
+        if (byIds && !truncated) {
+            report.put("unknownControllerIds", unknown(requestedIds, found));
+        }
+        report.put("actions", actions);
+        report.put("actionsTruncated", assigned.get() > actions.size());
+        report.put("batches", batches.get());
+        report.put("truncated", truncated);
+        report.put("elapsedMillis", (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Looks the requested controller IDs up in chunks of {@code controllerId=in=(...)} queries and passes the existing
+     * ones to the consumer, at most {@code maxTargets}. Returns whether the limit cut the selection short; unknown IDs
+     * are only reported when it did not.
+     */
+    private boolean resolveIds(final Set<String> controllerIds, final int maxTargets, final Consumer<String> consumer) {
+        List<String> ids = List.copyOf(controllerIds);
+        AtomicLong accepted = new AtomicLong();
+        for (int from = 0; from < ids.size(); from += IDS_PER_LOOKUP) {
+            String query = ids.subList(from, Math.min(from + IDS_PER_LOOKUP, ids.size())).stream()
+                    .map(DistributionSetAssignmentService::quote)
+                    .collect(Collectors.joining(",", "controllerId=in=(", ")"));
+            boolean more = pageScanner.<MgmtTarget>forEach(
+                    (offset, limit) -> mgmtTargetRestApi.getTargets(query, offset, limit, SORT_BY_ID).getBody(),
+                    0, (int) Math.min(IDS_PER_LOOKUP, maxTargets - accepted.get()), target -> {
+                        accepted.incrementAndGet();
+                        consumer.accept(target.getControllerId());
+                    }).nextOffset() != null;
+            if (accepted.get() >= maxTargets) {
+                return more || from + IDS_PER_LOOKUP < ids.size();
+            }
+        }
+        return false;
+    }
+
+    private static List<String> unknown(final Set<String> requested, final Set<String> found) {
+        return requested.stream()
+                .filter(controllerId -> !found.contains(controllerId))
+                .limit(MAX_REPORTED_ITEMS)
+                .toList();
+    }
+
+    // The same options as the single-target assignDistributionSet, applied to every target
+    private static MgmtTargetAssignmentRequestBody assignment(final String controllerId,
+            final MgmtActionType actionType, final Long forcetime, final Integer weight,
+            final Boolean confirmationRequired, final MgmtMaintenanceWindowRequestBody maintenanceWindow) {
+        MgmtTargetAssignmentRequestBody assignment = new MgmtTargetAssignmentRequestBody(controllerId);
+        if (actionType != null) {
+            assignment.setType(actionType);
+        }
+        if (forcetime != null) {
+            assignment.setForcetime(forcetime);
+        }
+        assignment.setWeight(weight);
+        assignment.setConfirmationRequired(confirmationRequired);
+        assignment.setMaintenanceWindow(maintenanceWindow);
+        return assignment;
+    }
+
+    private static String quote(final String value) {
+        return "\"" + (value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"")) + "\"";
+    }
+}
@@ -0,0 +1,213 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtDistributionSet;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Service;
+
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchResult;
+import com.romulo.hawkbit.mcp.support.CatalogCache;
+import com.romulo.hawkbit.mcp.support.CatalogCache.Region;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
+@Service
+public class FleetAggregationService {
+
+    private static final String SORT_BY_ID = "id:asc";
+    private static final String NONE = "(none)";
+
+    private final MgmtTargetRestApi targetRestApi;
+    private final MgmtDistributionSetRestApi distributionSetRestApi;
+    private final PageScanner pageScanner;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final CatalogCache catalogCache;
+    private final FiqlValidator fiqlValidator;
+
+    FleetAggregationService(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties, final CatalogCache catalogCache,
+            final FiqlValidator fiqlValidator) {
+        this.targetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.distributionSetRestApi = mgmtApiFactory.mgmtService(MgmtDistributionSetRestApi.class);
+        this.pageScanner = pageScanner;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.catalogCache = catalogCache;
+        this.fiqlValidator = fiqlValidator;
+    }
+
+    @McpTool(name = "aggregateTargets", description = """
+            Count the targets matching a FIQL filter grouped by update status, target type, installed or assigned
+            distribution set, computed server-side. Only the histogram is returned. Results are cached for a short
+            staleness window (see computedAt); use refresh=true to force a new computation.""")
+    public Map<String, Object> aggregateTargets(
+            @McpToolParam(description = "The dimension to group by", required = true) TargetGroupBy groupBy,
+
+            @McpToolParam(description = "Feed Item Query Language (FIQL) filter selecting the targets (default: all targets)", required = false) String rsqlParam,
+
+            @McpToolParam(description = "Ignore a cached result and compute the histogram again", required = false) Boolean refresh,
+
+            @McpToolParam(description = "Number of upstream requests in flight (default: server setting)", required = false) Integer parallelism) {
+
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+        int finalParallelism = bulkProperties.parallelism(parallelism);
+        if (!Boolean.TRUE.equals(refresh)) {
+            Map<String, Object> cached = catalogCache.getIfPresent(Region.FLEET_AGGREGATES, groupBy, query);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // computed outside the cache: a scan takes many upstream calls and must not block the cache meanwhile
+        Map<String, Object> result = switch (groupBy) {
+            case UPDATE_STATUS -> scanTargets(groupBy, query, finalParallelism, MgmtTarget::getUpdateStatus);
+            case TARGET_TYPE -> scanTargets(groupBy, query, finalParallelism, MgmtTarget::getTargetTypeName);
+            case INSTALLED_DS -> countPerDistributionSet(groupBy, query, finalParallelism, "installedds");
+            case ASSIGNED_DS -> countPerDistributionSet(groupBy, query, finalParallelism, "assignedds");
+        };
+        // partial histograms are returned once but never served from the cache
+        if (Boolean.TRUE.equals(result.get("complete"))) {
+            catalogCache.put(Region.FLEET_AGGREGATES, result, groupBy, query);
+        }
+        return result;
+    }
+
+    // Reads the first page for the total, then the remaining pages concurrently; only the counters are kept
+    private Map<String, Object> scanTargets(final TargetGroupBy groupBy, final String query, final int parallelism,
+            final Function<MgmtTarget, String> dimension) {
+        Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+        int pageSize = pageScanner.pageSize();
+        PagedList<MgmtTarget> first = targetRestApi.getTargets(query, 0, pageSize, SORT_BY_ID).getBody();
+        long total = (first != null) ? first.getTotal() : 0;
+        count(first, dimension, counters);
+
+        List<Integer> offsets = IntStream.iterate(pageSize, offset -> offset < total, offset -> offset + pageSize)
+                .boxed()
+                .toList();
+        List<BatchResult<Integer, Void>> pages = batchExecutor.run(offsets, 1, parallelism, chunk -> {
+            count(targetRestApi.getTargets(query, chunk.get(0), pageSize, SORT_BY_ID).getBody(), dimension, counters);
+            return null;
+        });
+
+        Map<String, Object> result = histogram(groupBy, query, total, counters);
+        List<Integer> failedOffsets = pages.stream().filter(page -> !page.success()).map(page -> page.items().get(0))
+                .toList();
+        result.put("complete", failedOffsets.isEmpty());
+        if (!failedOffsets.isEmpty()) {
+            result.put("failedPageOffsets", failedOffsets);
+            result.put("error", pages.stream().filter(page -> !page.success()).findFirst().get().error());
+        }
+        return result;
+    }
+
+    // One count query (limit 1, total only) per distribution set instead of a lookup per target. All sets are listed,
+    // a capped list would book the targets of the missing ones as "(none)"; counting stops once every matching target
+    // is attributed, so unused sets after that cost no query.
+    private Map<String, Object> countPerDistributionSet(final TargetGroupBy groupBy, final String query,
+            final int parallelism, final String field) {
+        long total = countTargets(query);
+        List<MgmtDistributionSet> distributionSets = new ArrayList<>();
+        if (total > 0) {
+            pageScanner.<MgmtDistributionSet>forEach((offset, limit) -> distributionSetRestApi
+                    .getDistributionSets(null, offset, limit, SORT_BY_ID).getBody(), 0, Integer.MAX_VALUE,
+                    distributionSets::add);
+        }
+
+        Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+        LongAdder attributed = new LongAdder();
+        List<BatchResult<MgmtDistributionSet, Void>> counts = batchExecutor.run(distributionSets, 1, parallelism,
+                chunk -> {
+                    if (attributed.sum() >= total) {
+                        return null;
+                    }
+                    MgmtDistributionSet ds = chunk.get(0);
+                    String dsQuery = field + ".name==" + quote(ds.getName()) + ";" + field + ".version=="
+                            + quote(ds.getVersion());
+                    long count = countTargets(query == null ? dsQuery : "(" + query + ");" + dsQuery);
+                    if (count > 0) {
+                        counters.computeIfAbsent(ds.getName() + ":" + ds.getVersion(), key -> new LongAdder())
+                                .add(count);
+                        attributed.add(count);
+                    }
+                    return null;
+                });
+
+        long grouped = counters.values().stream().mapToLong(LongAdder::sum).sum();
+        if (total > grouped) {
+            counters.computeIfAbsent(NONE, key -> new LongAdder()).add(total - grouped);
+        }
+        Map<String, Object> result = histogram(groupBy, query, total, counters);
+        List<String> failed = counts.stream().filter(count -> !count.success())
+                .map(count -> count.items().get(0).getName() + ":" + count.items().get(0).getVersion())
+                .toList();
+        result.put("complete", failed.isEmpty());
+        if (!failed.isEmpty()) {
+            result.put("failedDistributionSets", failed);
+        }
+        return result;
+    }
+
+    private long countTargets(final String query) {
+        PagedList<MgmtTarget> page = targetRestApi.getTargets(query, 0, 1, null).getBody();
+        return (page != null) ? page.getTotal() : 0;
+    }
+
+    private static void count(final PagedList<MgmtTarget> page, final Function<MgmtTarget, String> dimension,
+            final Map<String, LongAdder> counters) {
+        if (page == null || page.getContent() == null) {
+            return;
+        }
+        for (MgmtTarget target : page.getContent()) {
+            String value = dimension.apply(target);
+            counters.computeIfAbsent(value != null ? value : NONE, key -> new LongAdder()).increment();
+        }
+    }
+
+    private static Map<String, Object> histogram(final TargetGroupBy groupBy, final String query, final long total,
+            final Map<String, LongAdder> counters) {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        counters.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .forEach(entry -> buckets.put(entry.getKey(), entry.getValue().sum()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("groupBy", groupBy);
+        result.put("filter", query);
+        result.put("total", total);
+        result.put("buckets", buckets);
+        result.put("computedAt", Instant.now().toString());
+        return result;
+    }
+
+    private static String quote(final String value) {
+        return "\"" + (value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"")) + "\"";
+    }
+}
+
+enum TargetGroupBy {
+    UPDATE_STATUS,
+    TARGET_TYPE,
+    INSTALLED_DS,
+    ASSIGNED_DS
+}
@@ -1,39 +1,71 @@
 package com.romulo.hawkbit.mcp.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.rollout.MgmtRolloutResponseBody;
 import org.eclipse.hawkbit.mgmt.json.model.rollout.MgmtRolloutRestRequestBodyPost;
 import org.eclipse.hawkbit.mgmt.json.model.rollout.MgmtRolloutRestRequestBodyPut;
 import org.eclipse.hawkbit.mgmt.json.model.rolloutgroup.MgmtRolloutGroupResponseBody;
-import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRolloutRestApi;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.ScanProperties;
+import com.romulo.hawkbit.mcp.support.AsyncCalls;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class RolloutService {
 
-    private final MgmtRolloutRestApi rolloutRestApi;
+    // Full representation includes totalTargetsPerStatus for every group in the list
+    private static final String REPRESENTATION_MODE_FULL = "full";
 
-    public RolloutService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.rolloutRestApi = hawkbitClient.mgmtService(MgmtRolloutRestApi.class, tenant);
+    private static final List<String> GROUP_STATUS_KEYS = List.of("notstarted", "scheduled", "running", "finished",
+            "error", "cancelled");
+
+    private final MgmtRolloutRestApi rolloutRestApi;
+    private final AsyncCalls asyncCalls;
+    private final ObjectMapper objectMapper;
+    private final ScanProperties scanProperties;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    public RolloutService(final MgmtApiFactory mgmtApiFactory, final AsyncCalls asyncCalls,
+            final ObjectMapper objectMapper, final ScanProperties scanProperties, final ResponseShaper responseShaper,
+            final FiqlValidator fiqlValidator) {
+        this.rolloutRestApi = mgmtApiFactory.mgmtService(MgmtRolloutRestApi.class);
+        this.asyncCalls = asyncCalls;
+        this.objectMapper = objectMapper;
+        this.scanProperties = scanProperties;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
     }
 
     @McpTool(name = "getRollouts", description = "Get all Rollouts")
-    PagedList<MgmtRolloutResponseBody> getRollouts(
+    Object getRollouts(
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam) {
-        return rolloutRestApi.getRollouts(rsqlParam, offset, limit, sortParam,
-                MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,name,status,totalTargets. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.ROLLOUTS, rsqlParam);
+        return responseShaper.shape(rolloutRestApi.getRollouts(query, offset, limit, sortParam,
+                MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody(), fields, format);
     }
 
     @McpTool(name = "manageRollout", description = "Manages the lifecycle of a Rollout (Get single, Create, Update, Delete).")
@@ -143,8 +175,101 @@ public class RolloutService {
         }
     }
 
+    @McpTool(name = "getRolloutDashboard", description = """
+            Summarizes a Rollout and all its groups in one call: status, total/finished/error target counts and
+            percentages per group and for the whole rollout. Prefer it over manageRollout(GET) + getRolloutGroups +
+            getRolloutGroup when checking rollout progress.""")
+    Map<String, Object> getRolloutDashboard(
+            @McpToolParam(description = "The ID of the Rollout", required = true) Long rolloutId) {
+        int pageSize = scanProperties.pageSize();
+
+        // The rollout and the first page of groups are requested together; the remaining pages follow in parallel
+        CompletableFuture<MgmtRolloutResponseBody> rollout = asyncCalls
+                .submit(() -> rolloutRestApi.getRollout(rolloutId).getBody());
+        PagedList<MgmtRolloutGroupResponseBody> firstPage = groupPage(rolloutId, 0, pageSize);
+
+        List<CompletableFuture<PagedList<MgmtRolloutGroupResponseBody>>> nextPages = new ArrayList<>();
+        for (int offset = pageSize; offset < firstPage.getTotal(); offset += pageSize) {
+            int pageOffset = offset;
+            nextPages.add(asyncCalls.submit(() -> groupPage(rolloutId, pageOffset, pageSize)));
+        }
+
+        List<JsonNode> groups = new ArrayList<>();
+        firstPage.getContent().forEach(group -> groups.add(objectMapper.valueToTree(group)));
+        for (CompletableFuture<PagedList<MgmtRolloutGroupResponseBody>> page : nextPages) {
+            asyncCalls.join(page).getContent().forEach(group -> groups.add(objectMapper.valueToTree(group)));
+        }
+
+        // Older servers omit per-status counts in the group list; fetch those groups individually, concurrently
+        Map<Integer, CompletableFuture<MgmtRolloutGroupResponseBody>> details = new HashMap<>();
+        for (int i = 0; i < groups.size(); i++) {
+            JsonNode group = groups.get(i);
+            if (!group.hasNonNull("totalTargetsPerStatus")) {
+                long groupId = group.path("id").asLong();
+                details.put(i, asyncCalls.submit(() -> rolloutRestApi.getRolloutGroup(rolloutId, groupId).getBody()));
+            }
+        }
+        details.forEach((index, detail) -> groups.set(index, objectMapper.valueToTree(asyncCalls.join(detail))));
+
+        List<Map<String, Object>> groupSummaries = new ArrayList<>();
+        Map<String, Long> rolloutCounts = new LinkedHashMap<>();
+        long rolloutTotal = 0;
+        for (JsonNode group : groups) {
+            Map<String, Long> counts = statusCounts(group);
+            long total = group.path("totalTargets").asLong();
+            counts.forEach((status, count) -> rolloutCounts.merge(status, count, Long::sum));
+            rolloutTotal += total;
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("id", group.path("id").asLong());
+            summary.put("name", group.path("name").asText(null));
+            summary.put("status", group.path("status").asText(null));
+            summary.putAll(progress(total, counts));
+            groupSummaries.add(summary);
+        }
+
+        JsonNode rolloutNode = objectMapper.valueToTree(asyncCalls.join(rollout));
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("id", rolloutId);
+        dashboard.put("name", rolloutNode.path("name").asText(null));
+        dashboard.put("status", rolloutNode.path("status").asText(null));
+        dashboard.putAll(progress(rolloutTotal, rolloutCounts));
+        dashboard.put("groupCount", groups.size());
+        dashboard.put("groups", groupSummaries);
+        return dashboard;
+    }
+
+    private PagedList<MgmtRolloutGroupResponseBody> groupPage(final Long rolloutId, final int offset, final int limit) {
+        return rolloutRestApi.getRolloutGroups(rolloutId, null, offset, limit, "id:asc", REPRESENTATION_MODE_FULL)
+                .getBody();
+    }
+
+    private static Map<String, Long> statusCounts(final JsonNode group) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        JsonNode perStatus = group.path("totalTargetsPerStatus");
+        for (String status : GROUP_STATUS_KEYS) {
+            counts.put(status, perStatus.path(status).asLong());
+        }
+        return counts;
+    }
+
+    private static Map<String, Object> progress(final long total, final Map<String, Long> counts) {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("totalTargets", total);
+        progress.put("finished", counts.getOrDefault("finished", 0L));
+        progress.put("error", counts.getOrDefault("error", 0L));
+        progress.put("running", counts.getOrDefault("running", 0L));
+        progress.put("finishedPercent", percent(counts.getOrDefault("finished", 0L), total));
+        progress.put("errorPercent", percent(counts.getOrDefault("error", 0L), total));
+        return progress;
+    }
+
+    private static double percent(final long count, final long total) {
+        return (total == 0) ? 0 : Math.round(count * 1000.0 / total) / 10.0;
+    }
+
     @McpTool(name = "getRolloutGroups", description = "Retrieves a paged list of all rollout groups (deploy groups) assigned to a specific rollout.")
-    PagedList<MgmtRolloutGroupResponseBody> getRolloutGroups(
+    Object getRolloutGroups(
             @McpToolParam(description = "The ID of the Rollout", required = true) Long rolloutId,
 
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
@@ -153,9 +278,14 @@ public class RolloutService {
 
             @McpToolParam(description = "Limit for pagination (max: 50, default: 50)", required = true) int limit,
 
-            @McpToolParam(description = "Sort parameter. Example: name:asc", required = false) String sortParam) {
-        return rolloutRestApi.getRolloutGroups(rolloutId, rsqlParam, offset, limit, sortParam,
-                MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc", required = false) String sortParam,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,name,status,totalTargets. Use dots for nested fields. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.ROLLOUT_GROUPS, rsqlParam);
+        return responseShaper.shape(rolloutRestApi.getRolloutGroups(rolloutId, query, offset, limit, sortParam,
+                MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody(), fields, format);
     }
 
     @McpTool(name = "getRolloutGroup", description = "Retrieves the details of a single rollout group (deploy group) within a specific rollout.")
@@ -167,7 +297,7 @@ public class RolloutService {
     }
 
     @McpTool(name = "getRolloutGroupTargets", description = "Retrieves a paged list of all targets assigned to a specific rollout group.")
-    PagedList<MgmtTarget> getRolloutGroupTargets(
+    Object getRolloutGroupTargets(
             @McpToolParam(description = "The ID of the Rollout", required = true) Long rolloutId,
 
             @McpToolParam(description = "The ID of the Rollout Group", required = true) Long groupId,
@@ -178,8 +308,15 @@ public class RolloutService {
 
             @McpToolParam(description = "Limit for pagination (max: 50, default: 50)", required = true) int limit,
 
-            @McpToolParam(description = "Sort parameter. Example: name:asc", required = false) String sortParam) {
-        return rolloutRestApi.getRolloutGroupTargets(rolloutId, groupId, rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc", required = false) String sortParam,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. controllerId,name,updateStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+        return responseShaper.shape(
+                rolloutRestApi.getRolloutGroupTargets(rolloutId, groupId, query, offset, limit, sortParam).getBody(),
+                fields, format);
     }
 
 }
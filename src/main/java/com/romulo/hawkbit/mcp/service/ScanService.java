@@ -0,0 +1,144 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRolloutRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetTagRestApi;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Service;
+
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.ScanProperties;
+import com.romulo.hawkbit.mcp.support.PageScanner;
+import com.romulo.hawkbit.mcp.support.PageScanner.PageFetcher;
+import com.romulo.hawkbit.mcp.support.PageScanner.ScanResult;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
+@Service
+public class ScanService {
+
+    private static final String DEFAULT_SORT = "id:asc";
+
+    private final MgmtTargetRestApi targetRestApi;
+    private final MgmtRolloutRestApi rolloutRestApi;
+    private final MgmtTargetTagRestApi targetTagRestApi;
+    private final MgmtActionRestApi actionRestApi;
+    private final PageScanner pageScanner;
+    private final ScanProperties properties;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    public ScanService(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final ScanProperties properties, final ResponseShaper responseShaper, final FiqlValidator fiqlValidator) {
+        this.targetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.rolloutRestApi = mgmtApiFactory.mgmtService(MgmtRolloutRestApi.class);
+        this.targetTagRestApi = mgmtApiFactory.mgmtService(MgmtTargetTagRestApi.class);
+        this.actionRestApi = mgmtApiFactory.mgmtService(MgmtActionRestApi.class);
+        this.pageScanner = pageScanner;
+        this.properties = properties;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
+    }
+
+    @McpTool(name = "scanList", description = """
+            Walks a paged list server-side and returns up to maxItems items in one call, instead of issuing many
+            offset/limit calls. If the list is longer, the result contains a nextCursor; call again with it to continue.
+            nextCursor is null when the whole list has been returned.""")
+    public Map<String, Object> scanList(
+            @McpToolParam(description = "The list to walk", required = true) ScanSource source,
+
+            @McpToolParam(description = "Controller ID of the Target (Required for TARGET_ACTION_HISTORY)", required = false) String controllerId,
+
+            @McpToolParam(description = "Rollout ID (Required for ROLLOUT_GROUP_TARGETS)", required = false) Long rolloutId,
+
+            @McpToolParam(description = "Rollout Group ID (Required for ROLLOUT_GROUP_TARGETS)", required = false) Long groupId,
+
+            @McpToolParam(description = "Target Tag ID (Required for TAG_ASSIGNED_TARGETS)", required = false) Long targetTagId,
+
+            @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
+
+            @McpToolParam(description = "Sort parameter. Default: id:asc", required = false) String sortParam,
+
+            @McpToolParam(description = "Cursor returned by a previous scanList call (default: start of the list)", required = false) Integer cursor,
+
+            @McpToolParam(description = "Maximum number of items to return in this call", required = false) Integer maxItems,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. controllerId,name,updateStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+
+        int finalMaxItems = (maxItems != null && maxItems > 0) ? Math.min(maxItems, properties.maxItems())
+                : properties.maxItems();
+        int startOffset = (cursor != null) ? cursor : 0;
+        String sort = (sortParam != null) ? sortParam : DEFAULT_SORT;
+
+        List<Object> items = new ArrayList<>();
+        ScanResult scan = pageScanner.forEach(fetcher(source, controllerId, rolloutId, groupId, targetTagId, rsqlParam, sort),
+                startOffset, finalMaxItems, items::add);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("source", source);
+        result.put("total", scan.total());
+        result.put("count", scan.visited());
+        result.put("items", responseShaper.shape(items, fields, format));
+        result.put("nextCursor", scan.nextOffset());
+        return result;
+    }
+
+    private PageFetcher<?> fetcher(final ScanSource source, final String controllerId, final Long rolloutId,
+            final Long groupId, final Long targetTagId, final String rsqlParam, final String sortParam) {
+        switch (source) {
+            case TARGETS:
+                String targetQuery = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+                return (offset, limit) -> targetRestApi.getTargets(targetQuery, offset, limit, sortParam).getBody();
+
+            case TARGET_ACTION_HISTORY:
+                if (controllerId == null)
+                    throw new IllegalArgumentException("Controller ID is required for TARGET_ACTION_HISTORY");
+                String historyQuery = fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam);
+                return (offset, limit) -> targetRestApi
+                        .getActionHistory(controllerId, historyQuery, offset, limit, sortParam).getBody();
+
+            case ROLLOUT_GROUP_TARGETS:
+                if (rolloutId == null || groupId == null)
+                    throw new IllegalArgumentException("Rollout ID and Group ID are required for ROLLOUT_GROUP_TARGETS");
+                String groupTargetQuery = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+                return (offset, limit) -> rolloutRestApi
+                        .getRolloutGroupTargets(rolloutId, groupId, groupTargetQuery, offset, limit, sortParam)
+                        .getBody();
+
+            case TAG_ASSIGNED_TARGETS:
+                if (targetTagId == null)
+                    throw new IllegalArgumentException("Target Tag ID is required for TAG_ASSIGNED_TARGETS");
+                String tagTargetQuery = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+                return (offset, limit) -> targetTagRestApi
+                        .getAssignedTargets(targetTagId, tagTargetQuery, offset, limit, sortParam).getBody();
+
+            case ACTIONS:
+                String actionQuery = fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam);
+                return (offset, limit) -> actionRestApi.getActions(actionQuery, offset, limit, sortParam,
+                        MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+
+            default:
+                throw new IllegalArgumentException("Unsupported source: " + source);
+        }
+    }
+}
+
+enum ScanSource {
+    TARGETS,
+    TARGET_ACTION_HISTORY,
+    ROLLOUT_GROUP_TARGETS,
+    TAG_ASSIGNED_TARGETS,
+    ACTIONS
+}
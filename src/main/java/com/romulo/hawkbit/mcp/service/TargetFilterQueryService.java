@@ -6,29 +6,48 @@ import org.eclipse.hawkbit.mgmt.json.model.targetfilter.MgmtTargetFilterQuery;
 import org.eclipse.hawkbit.mgmt.json.model.targetfilter.MgmtTargetFilterQueryRequestBody;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetFilterQueryRestApi;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.support.CatalogCache;
+import com.romulo.hawkbit.mcp.support.CatalogCache.Region;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class TargetFilterQueryService {
 
     private final MgmtTargetFilterQueryRestApi targetFilterRestApi;
-
-    public TargetFilterQueryService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.targetFilterRestApi = hawkbitClient.mgmtService(MgmtTargetFilterQueryRestApi.class, tenant);
+    private final CatalogCache catalogCache;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    public TargetFilterQueryService(final MgmtApiFactory mgmtApiFactory,
+            final CatalogCache catalogCache, final ResponseShaper responseShaper, final FiqlValidator fiqlValidator) {
+        this.targetFilterRestApi = mgmtApiFactory.mgmtService(MgmtTargetFilterQueryRestApi.class);
+        this.catalogCache = catalogCache;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
     }
 
     @McpTool(name = "getTargetFilters", description = "Get all target filter queries with filtering and pagination.")
-    PagedList<MgmtTargetFilterQuery> getTargetFilters(
+    Object getTargetFilters(
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset for pagination (default: 0)", required = true) int offset,
             @McpToolParam(description = "Limit for pagination (max: 50, default: 50)", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam) {
-        return targetFilterRestApi.getFilters(rsqlParam, offset, limit, sortParam,
-                MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,name,query. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGET_FILTERS, rsqlParam);
+        PagedList<MgmtTargetFilterQuery> filters = catalogCache.get(Region.TARGET_FILTERS,
+                () -> targetFilterRestApi.getFilters(query, offset, limit, sortParam,
+                        MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT).getBody(),
+                query, offset, limit, sortParam);
+        return responseShaper.shape(filters, fields, format);
     }
 
     @McpTool(name = "manageTargetFilter", description = "Manages the lifecycle of a Target Filter Query (Get single, Create, Update, Delete).")
@@ -47,17 +66,22 @@ public class TargetFilterQueryService {
             case CREATE:
                 if (filterBody == null)
                     throw new IllegalArgumentException("Filter body is required for CREATE action");
-                return targetFilterRestApi.createFilter(filterBody).getBody();
+                MgmtTargetFilterQuery created = targetFilterRestApi.createFilter(filterBody).getBody();
+                catalogCache.invalidateAll(Region.TARGET_FILTERS);
+                return created;
 
             case UPDATE:
                 if (filterId == null || filterBody == null)
                     throw new IllegalArgumentException("Filter ID and Body are required for UPDATE action");
-                return targetFilterRestApi.updateFilter(filterId, filterBody).getBody();
+                MgmtTargetFilterQuery updated = targetFilterRestApi.updateFilter(filterId, filterBody).getBody();
+                catalogCache.invalidateAll(Region.TARGET_FILTERS);
+                return updated;
 
             case DELETE:
                 if (filterId == null)
                     throw new IllegalArgumentException("Filter ID is required for DELETE action");
                 targetFilterRestApi.deleteFilter(filterId);
+                catalogCache.invalidateAll(Region.TARGET_FILTERS);
                 return "Target Filter " + filterId + " deleted successfully.";
 
             default:
@@ -79,10 +103,14 @@ public class TargetFilterQueryService {
             case ASSIGN:
                 if (assignmentBody == null)
                     throw new IllegalArgumentException("Assignment body is required for ASSIGN action");
-                return targetFilterRestApi.postAssignedDistributionSet(filterId, assignmentBody).getBody();
+                MgmtTargetFilterQuery assigned = targetFilterRestApi.postAssignedDistributionSet(filterId, assignmentBody)
+                        .getBody();
+                catalogCache.invalidateAll(Region.TARGET_FILTERS);
+                return assigned;
 
             case UNASSIGN:
                 targetFilterRestApi.deleteAssignedDistributionSet(filterId);
+                catalogCache.invalidateAll(Region.TARGET_FILTERS);
                 return "Auto-assignment removed successfully from filter " + filterId;
 
             default:
@@ -0,0 +1,335 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springaicommunity.mcp.annotation.McpProgressToken;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.config.ImportProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchRun;
+import com.romulo.hawkbit.mcp.support.LocalFiles;
+import com.romulo.hawkbit.mcp.support.ProgressReporter;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+@Service
+public class TargetImportService {
+
+    private static final int SAMPLE_SIZE = 5;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final String SECURITY_TOKEN = "securityToken";
+    private static final String MASK = "***";
+
+    private final MgmtTargetRestApi mgmtTargetRestApi;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+
+    TargetImportService(final MgmtApiFactory mgmtApiFactory, final BatchExecutor batchExecutor,
+            final BulkProperties bulkProperties, final ObjectMapper objectMapper,
+            final ImportProperties importProperties) {
+        this.mgmtTargetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.objectMapper = objectMapper;
+        this.importProperties = importProperties;
+    }
+
+    @McpTool(name = "importTargets", description = """
+            Create targets in bulk from an NDJSON or CSV file in the server's import directory. The file is streamed, never loaded as a whole, and
+            sent to hawkBit in batches. NDJSON: one MgmtTargetRequestBody JSON object per line. CSV: a header row with
+            the same field names (controllerId, name, description, address, securityToken, targetType).
+            Preview mode returns the row counts, invalid rows and a sample with security tokens masked.""")
+    public Map<String, Object> importTargets(
+            @McpToolParam(description = "Path of the NDJSON or CSV file, relative to the server's import directory", required = true) String filePath,
+
+            @McpToolParam(description = "File format (default: CSV for .csv files, NDJSON otherwise)", required = false) ImportFormat format,
+
+            @McpToolParam(description = "Number of targets per createTargets request (default: server setting)", required = false) Integer batchSize,
+
+            @McpToolParam(description = "Number of requests in flight (default: server setting)", required = false) Integer parallelism,
+
+            @McpToolParam(description = "Set to true to persist changes. Default false (preview only).", required = false) Boolean confirm,
+
+            McpSyncServerExchange exchange,
+
+            @McpProgressToken String progressToken) {
+
+        Path file = LocalFiles.resolve(importProperties.directory(), filePath);
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new IllegalArgumentException("File not found or not readable: " + filePath);
+        }
+        ImportFormat finalFormat = (format != null) ? format
+                : (filePath.toLowerCase().endsWith(".csv") ? ImportFormat.CSV : ImportFormat.NDJSON);
+
+        if (confirm == null || !confirm) {
+            return preview(file, finalFormat);
+        }
+        return runImport(file, finalFormat, bulkProperties.chunkSize(batchSize), bulkProperties.parallelism(parallelism),
+                ProgressReporter.of(exchange, progressToken));
+    }
+
+    private Map<String, Object> preview(final Path file, final ImportFormat format) {
+        List<ObjectNode> sample = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        AtomicLong valid = new AtomicLong();
+        AtomicLong invalid = new AtomicLong();
+
+        readRows(file, format, new RowHandler() {
+            @Override
+            public void row(final long lineNumber, final MgmtTargetRequestBody target) {
+                valid.incrementAndGet();
+                if (sample.size() < SAMPLE_SIZE) {
+                    sample.add(sampleRow(target));
+                }
+            }
+
+            @Override
+            public void invalid(final long lineNumber, final String error) {
+                invalid.incrementAndGet();
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add("line " + lineNumber + ": " + error);
+                }
+            }
+        });
+
+        Map<String, Object> preview = new LinkedHashMap<>();
+        preview.put("message", "PREVIEW MODE: No changes were made. Please confirm to proceed.");
+        preview.put("file", file.toString());
+        preview.put("format", format);
+        preview.put("count", valid.get());
+        preview.put("invalidRows", invalid.get());
+        preview.put("invalidRowErrors", errors);
+        preview.put("sample", sample);
+        return preview;
+    }
+
+    // The security token authenticates the device against hawkBit, it is never echoed back to the client
+    private ObjectNode sampleRow(final MgmtTargetRequestBody target) {
+        ObjectNode row = objectMapper.valueToTree(target);
+        if (row.hasNonNull(SECURITY_TOKEN)) {
+            row.put(SECURITY_TOKEN, MASK);
+        }
+        return row;
+    }
+
+    private Map<String, Object> runImport(final Path file, final ImportFormat format, final int batchSize,
+            final int parallelism, final ProgressReporter progress) {
+        long started = System.nanoTime();
+        AtomicLong created = new AtomicLong();
+        AtomicLong processed = new AtomicLong();
+        List<String> errors = new ArrayList<>();
+        AtomicLong invalid = new AtomicLong();
+
+        List<Map<String, Object>> failedBatches = new ArrayList<>();
+        AtomicLong failedTargets = new AtomicLong();
+        AtomicLong batches = new AtomicLong();
+        // results are aggregated as batches complete, the parsed rows of a batch are dropped right after
+        BatchRun<MgmtTargetRequestBody, Integer> run = batchExecutor.start(parallelism, chunk -> {
+            try {
+                List<MgmtTarget> body = mgmtTargetRestApi.createTargets(chunk).getBody();
+                int count = (body != null) ? body.size() : chunk.size();
+                created.addAndGet(count);
+                return count;
+            } finally {
+                long done = processed.addAndGet(chunk.size());
+                progress.report(done, null, done + " targets processed, " + created.get() + " created");
+            }
+        }, result -> {
+            batches.incrementAndGet();
+            if (!result.success()) {
+                failedTargets.addAndGet(result.items().size());
+                if (failedBatches.size() < MAX_REPORTED_ERRORS) {
+                    Map<String, Object> failed = new LinkedHashMap<>();
+                    failed.put("batch", result.index());
+                    failed.put("offset", result.offset());
+                    failed.put("size", result.items().size());
+                    failed.put("firstControllerId", result.items().get(0).getControllerId());
+                    failed.put("lastControllerId", result.items().get(result.items().size() - 1).getControllerId());
+                    failed.put("error", result.error());
+                    failedBatches.add(failed);
+                }
+            }
+        });
+
+        List<MgmtTargetRequestBody> batch = new ArrayList<>(batchSize);
+        readRows(file, format, new RowHandler() {
+            @Override
+            public void row(final long lineNumber, final MgmtTargetRequestBody target) {
+                batch.add(target);
+                if (batch.size() == batchSize) {
+                    // blocks while the maximum number of batches is in flight
+                    run.submit(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+
+            @Override
+            public void invalid(final long lineNumber, final String error) {
+                invalid.incrementAndGet();
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add("line " + lineNumber + ": " + error);
+                }
+            }
+        });
+        if (!batch.isEmpty()) {
+            run.submit(List.copyOf(batch));
+        }
+        run.await();
+
+        long elapsedMillis = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        Map<String, Object> report = new LinkedHashMap<>();
+        long rejected = failedTargets.get() + invalid.get();
+        report.put("status", rejected == 0 ? "SUCCESS" : (created.get() == 0 ? "FAILED" : "PARTIAL"));
+        report.put("file", file.toString());
+        report.put("processed", processed.get());
+        report.put("created", created.get());
+        report.put("failed", failedTargets.get());
+        report.put("invalidRows", invalid.get());
+        report.put("invalidRowErrors", errors);
+        report.put("batches", batches.get());
+        report.put("failedBatches", failedBatches);
+        report.put("elapsedMillis", elapsedMillis);
+        report.put("targetsPerSecond", processed.get() * 1000 / elapsedMillis);
+        return report;
+    }
+
+    private void readRows(final Path file, final ImportFormat format, final RowHandler handler) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> header = null;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+                MgmtTargetRequestBody target;
+                try {
+                    target = toTarget(format == ImportFormat.CSV ? csvRow(header, line) : objectMapper.readTree(line));
+                } catch (Exception e) {
+                    handler.invalid(lineNumber, rowError(e));
+                    continue;
+                }
+                handler.row(lineNumber, target);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Describes why a row was rejected without echoing its content, parser messages quote the offending input
+    private static String rowError(final Exception e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "invalid value for " + mapping.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null ? reference.getFieldName()
+                            : String.valueOf(reference.getIndex()))
+                    .collect(Collectors.joining("."));
+        }
+        if (e instanceof JsonProcessingException json) {
+            return (json.getLocation() != null) ? "not valid JSON at column " + json.getLocation().getColumnNr()
+                    : "not valid JSON";
+        }
+        if (e instanceof IllegalArgumentException) {
+            return e.getMessage();
+        }
+        return "invalid row (" + e.getClass().getSimpleName() + ")";
+    }
+
+    private MgmtTargetRequestBody toTarget(final JsonNode row) throws IOException {
+        if (!(row instanceof ObjectNode object)) {
+            throw new IllegalArgumentException("Row is not a JSON object");
+        }
+        String controllerId = object.path("controllerId").asText("");
+        if (controllerId.isBlank()) {
+            throw new IllegalArgumentException("controllerId is required");
+        }
+        if (object.path("name").asText("").isBlank()) {
+            object.put("name", controllerId);
+        }
+        return objectMapper.treeToValue(object, MgmtTargetRequestBody.class);
+    }
+
+    private ObjectNode csvRow(final List<String> header, final String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Row has " + values.size() + " columns, header has " + header.size());
+        }
+        ObjectNode row = objectMapper.createObjectNode();
+        for (int i = 0; i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                row.put(header.get(i), values.get(i));
+            }
+        }
+        return row;
+    }
+
+    // Minimal RFC 4180 splitting: quoted values may contain commas and doubled quotes, but not line breaks
+    private static List<String> parseCsvLine(final String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+
+    private interface RowHandler {
+
+        void row(long lineNumber, MgmtTargetRequestBody target);
+
+        void invalid(long lineNumber, String error);
+    }
+}
+
+enum ImportFormat {
+    NDJSON,
+    CSV
+}
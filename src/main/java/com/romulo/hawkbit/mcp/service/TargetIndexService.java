@@ -0,0 +1,112 @@
+package com.romulo.hawkbit.mcp.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.romulo.hawkbit.mcp.client.TenantContext;
+import com.romulo.hawkbit.mcp.config.TargetIndexProperties;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.TargetIndex;
+import com.romulo.hawkbit.mcp.support.TargetIndex.IndexedTarget;
+
+@Service
+@ConditionalOnProperty(prefix = "hawkbit.mcp.target-index", name = "enabled", havingValue = "true")
+public class TargetIndexService {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final TargetIndex targetIndex;
+    private final TargetIndexProperties properties;
+    private final ResponseShaper responseShaper;
+
+    TargetIndexService(final TargetIndex targetIndex, final TargetIndexProperties properties,
+            final ResponseShaper responseShaper) {
+        this.targetIndex = targetIndex;
+        this.properties = properties;
+        this.responseShaper = responseShaper;
+    }
+
+    @McpTool(name = "lookupIndexedTargets", description = """
+            Answer target questions from the server's in-memory target index instead of calling hawkBit. The index
+            holds controllerId, name, updateStatus, targetType, assignedDs, installedDs (as name:version),
+            lastControllerRequestAt and lastModifiedAt, and is synced in the background. The answer reports its
+            staleness; the call fails if the index is older than maxStalenessSeconds, then use getTargets instead.
+            lastControllerRequestAt is only refreshed when the target changes or on the periodic full reseed (hours),
+            so use getTargets to check whether a device is online.
+            All filters are exact matches except controllerIdPrefix.""")
+    public Map<String, Object> lookupIndexedTargets(
+            @McpToolParam(description = "Controller IDs to look up", required = false) List<String> controllerIds,
+
+            @McpToolParam(description = "Only targets whose controller ID starts with this prefix", required = false) String controllerIdPrefix,
+
+            @McpToolParam(description = "Update status, e.g. in_sync, pending, error, registered, unknown", required = false) String updateStatus,
+
+            @McpToolParam(description = "Target type name", required = false) String targetType,
+
+            @McpToolParam(description = "Assigned distribution set as name:version", required = false) String assignedDs,
+
+            @McpToolParam(description = "Installed distribution set as name:version", required = false) String installedDs,
+
+            @McpToolParam(description = "Maximum acceptable index age in seconds (default: server setting)", required = false) Long maxStalenessSeconds,
+
+            @McpToolParam(description = "Offset (default: 0)", required = false) Integer offset,
+
+            @McpToolParam(description = "Limit (default: 50)", required = false) Integer limit,
+
+            @McpToolParam(description = "Comma-separated fields to return, e.g. controllerId,updateStatus. Default: all fields", required = false) String fields,
+
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+
+        if (!TenantContext.DEFAULT.equals(TenantContext.current())) {
+            throw new IllegalArgumentException("The target index covers the default tenant only, use getTargets instead");
+        }
+        Duration staleness = targetIndex.staleness();
+        if (staleness == null) {
+            throw new IllegalStateException("The target index is still being seeded, use getTargets instead");
+        }
+        Duration bound = (maxStalenessSeconds != null) ? Duration.ofSeconds(maxStalenessSeconds)
+                : properties.maxStaleness();
+        if (staleness.compareTo(bound) > 0) {
+            throw new IllegalStateException("The target index is " + staleness.toSeconds()
+                    + "s old, more than the accepted " + bound.toSeconds() + "s; use getTargets instead");
+        }
+
+        Stream<IndexedTarget> candidates = (controllerIds != null && !controllerIds.isEmpty())
+                ? controllerIds.stream().map(targetIndex::get).filter(Objects::nonNull)
+                : targetIndex.targets();
+        List<IndexedTarget> matches = candidates
+                .filter(target -> controllerIdPrefix == null || target.controllerId().startsWith(controllerIdPrefix))
+                .filter(target -> updateStatus == null || updateStatus.equalsIgnoreCase(target.updateStatus()))
+                .filter(target -> targetType == null || targetType.equals(target.targetType()))
+                .filter(target -> assignedDs == null || assignedDs.equals(target.assignedDs()))
+                .filter(target -> installedDs == null || installedDs.equals(target.installedDs()))
+                .sorted(Comparator.comparing(IndexedTarget::controllerId))
+                .toList();
+
+        int from = Math.min((offset != null) ? Math.max(offset, 0) : 0, matches.size());
+        int to = Math.min(from + ((limit != null && limit > 0) ? limit : DEFAULT_LIMIT), matches.size());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("syncedAt", targetIndex.syncedAt().toString());
+        result.put("stalenessSeconds", staleness.toSeconds());
+        result.put("total", matches.size());
+        result.put("items", responseShaper.shape(matches.subList(from, to), fields, format));
+        return result;
+    }
+
+    @McpTool(name = "getTargetIndexStatus", description = "Get the state of the in-memory target index: size, last seed and sync times, sync watermark and last error.")
+    public Map<String, Object> getTargetIndexStatus() {
+        return targetIndex.status();
+    }
+}
@@ -3,33 +3,44 @@ package com.romulo.hawkbit.mcp.service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.hawkbit.mgmt.json.model.MgmtId;
 import org.eclipse.hawkbit.mgmt.json.model.MgmtMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.MgmtMetadataBodyPut;
-import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtActionConfirmationRequestBodyPut;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtActionRequestBodyPut;
-import org.eclipse.hawkbit.mgmt.json.model.action.MgmtActionStatus;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtDistributionSetAssignments;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirmUpdate;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.support.AsyncCalls;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class TargetService {
 
     private final MgmtTargetRestApi mgmtTargetRestApi;
-
-    TargetService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.mgmtTargetRestApi = hawkbitClient.mgmtService(MgmtTargetRestApi.class, tenant);
+    private final AsyncCalls asyncCalls;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    TargetService(final MgmtApiFactory mgmtApiFactory, final AsyncCalls asyncCalls,
+            final ResponseShaper responseShaper, final FiqlValidator fiqlValidator) {
+        this.mgmtTargetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.asyncCalls = asyncCalls;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
     }
 
     @McpTool(name = "getTargetDetails", description = "Get detailed information about a Target. Can include attributes, tags, and distribution sets in the same call.")
@@ -41,13 +52,34 @@ public class TargetService {
             @McpToolParam(description = "Include target tags?", required = false) boolean includeTags,
 
             @McpToolParam(description = "Include Distribution Sets (installed and assigned)?", required = false) boolean includeDistributionSets) {
+        // Sub-resources are fetched concurrently; each one still reports its own *_error entry on failure or timeout
+        CompletableFuture<MgmtTarget> target = asyncCalls.submit(() -> mgmtTargetRestApi.getTarget(controllerId).getBody());
+        CompletableFuture<?> attributes = includeAttributes
+                ? asyncCalls.submit(() -> mgmtTargetRestApi.getAttributes(controllerId).getBody())
+                : null;
+        CompletableFuture<?> tags = includeTags
+                ? asyncCalls.submit(() -> mgmtTargetRestApi.getTags(controllerId).getBody())
+                : null;
+        CompletableFuture<?> assignedDs = includeDistributionSets
+                ? asyncCalls.submit(() -> mgmtTargetRestApi.getAssignedDistributionSet(controllerId).getBody())
+                : null;
+        CompletableFuture<?> installedDs = includeDistributionSets
+                ? asyncCalls.submit(() -> mgmtTargetRestApi.getInstalledDistributionSet(controllerId).getBody())
+                : null;
+
         Map<String, Object> result = new HashMap<>();
 
-        result.put("target", mgmtTargetRestApi.getTarget(controllerId).getBody());
+        try {
+            result.put("target", asyncCalls.join(target));
+        } catch (RuntimeException e) {
+            // the details are not returned without the target, so the sub-resource requests are aborted
+            cancel(attributes, tags, assignedDs, installedDs);
+            throw e;
+        }
 
         if (includeAttributes) {
             try {
-                result.put("attributes", mgmtTargetRestApi.getAttributes(controllerId).getBody());
+                result.put("attributes", asyncCalls.join(attributes));
             } catch (Exception e) {
                 result.put("attributes_error", "Failed to load attributes: " + e.getMessage());
             }
@@ -55,7 +87,7 @@ public class TargetService {
 
         if (includeTags) {
             try {
-                result.put("tags", mgmtTargetRestApi.getTags(controllerId).getBody());
+                result.put("tags", asyncCalls.join(tags));
             } catch (Exception e) {
                 result.put("tags_error", e.getMessage());
             }
@@ -64,10 +96,11 @@ public class TargetService {
         if (includeDistributionSets) {
             try {
                 Map<String, Object> dsInfo = new HashMap<>();
-                dsInfo.put("assigned", mgmtTargetRestApi.getAssignedDistributionSet(controllerId).getBody());
-                dsInfo.put("installed", mgmtTargetRestApi.getInstalledDistributionSet(controllerId).getBody());
+                dsInfo.put("assigned", asyncCalls.join(assignedDs));
+                dsInfo.put("installed", asyncCalls.join(installedDs));
                 result.put("distributionSets", dsInfo);
             } catch (Exception e) {
+                cancel(installedDs);
                 result.put("distributionSets_error", e.getMessage());
             }
         }
@@ -75,6 +108,14 @@ public class TargetService {
         return result;
     }
 
+    private static void cancel(final CompletableFuture<?>... calls) {
+        for (CompletableFuture<?> call : calls) {
+            if (call != null) {
+                call.cancel(true);
+            }
+        }
+    }
+
     @McpTool(name = "manageTargetMetadata", description = "Manage metadata for a Target (CRUD operations).")
     public Object manageTargetMetadata(
             @McpToolParam(description = "Controller ID of the Target", required = true) String controllerId,
@@ -132,12 +173,16 @@ public class TargetService {
     // Target tools
 
     @McpTool(name = "getTargets", description = "Get all targets")
-    PagedList<MgmtTarget> getTargets(
+    Object getTargets(
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.  Only if necessary, consult getTargetSearchFields with the available fields.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc. Can be use the same sort parameter as the getTargetSearchFields.", required = false) String sortParam) {
-        return mgmtTargetRestApi.getTargets(rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc. Can be use the same sort parameter as the getTargetSearchFields.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. controllerId,name,updateStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+        return responseShaper.shape(mgmtTargetRestApi.getTargets(query, offset, limit, sortParam).getBody(), fields,
+                format);
     }
 
     @McpTool(name = "createTargets", description = "Create new targets. Fill only mandatory fields.")
@@ -174,12 +219,17 @@ public class TargetService {
     // Actions tools
 
     @McpTool(name = "getActionHistory", description = "Get action history for a specific target by its controller ID")
-    PagedList<MgmtAction> getActionHistory(String controllerId,
+    Object getActionHistory(String controllerId,
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.  Only if necessary, consult getActionHistorySearchFields with the available fields.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc. Can be use the same sort parameter as the getActionHistorySearchFields.", required = false) String sortParam) {
-        return mgmtTargetRestApi.getActionHistory(controllerId, rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc. Can be use the same sort parameter as the getActionHistorySearchFields.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,status,detailStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.ACTIONS, rsqlParam);
+        return responseShaper.shape(
+                mgmtTargetRestApi.getActionHistory(controllerId, query, offset, limit, sortParam).getBody(), fields,
+                format);
     }
 
     @McpTool(name = "getAction", description = "Get action by id of a specific target")
@@ -223,11 +273,15 @@ public class TargetService {
     }
 
     @McpTool(name = "getActionStatusList", description = "Handles the GET request of retrieving a specific action on a specific target.")
-    PagedList<MgmtActionStatus> getActionStatusList(String targetId, Long actionId,
+    Object getActionStatusList(String targetId, Long actionId,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: id:desc", required = false) String sortParam) {
-        return mgmtTargetRestApi.getActionStatusList(targetId, actionId, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: id:desc", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,type,messages. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        return responseShaper.shape(
+                mgmtTargetRestApi.getActionStatusList(targetId, actionId, offset, limit, sortParam).getBody(), fields,
+                format);
     }
 
     // Distribution Set tools
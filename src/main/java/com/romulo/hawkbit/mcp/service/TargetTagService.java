@@ -1,35 +1,65 @@
 package com.romulo.hawkbit.mcp.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.tag.MgmtTag;
 import org.eclipse.hawkbit.mgmt.json.model.tag.MgmtTagRequestBodyPut;
-import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetTagRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetTagRestApi.OnNotFoundPolicy;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchResult;
+import com.romulo.hawkbit.mcp.support.CatalogCache;
+import com.romulo.hawkbit.mcp.support.CatalogCache.Region;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class TargetTagService {
 
     private final MgmtTargetTagRestApi mgmtTargetTagRestApi;
-
-    TargetTagService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.mgmtTargetTagRestApi = hawkbitClient.mgmtService(MgmtTargetTagRestApi.class, tenant);
+    private final CatalogCache catalogCache;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    TargetTagService(final MgmtApiFactory mgmtApiFactory, final CatalogCache catalogCache,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties, final ResponseShaper responseShaper,
+            final FiqlValidator fiqlValidator) {
+        this.mgmtTargetTagRestApi = mgmtApiFactory.mgmtService(MgmtTargetTagRestApi.class);
+        this.catalogCache = catalogCache;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
     }
 
     @McpTool(name = "getTargetsTags", description = "Get all Targets Tags")
-    PagedList<MgmtTag> getTargetsTags(
+    Object getTargetsTags(
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam) {
-        return mgmtTargetTagRestApi.getTargetTags(rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,name,colour. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGET_TAGS, rsqlParam);
+        PagedList<MgmtTag> tags = catalogCache.get(Region.TARGET_TAGS,
+                () -> mgmtTargetTagRestApi.getTargetTags(query, offset, limit, sortParam).getBody(),
+                query, offset, limit, sortParam);
+        return responseShaper.shape(tags, fields, format);
     }
 
     @McpTool(name = "manageTargetTag", description = "Manages the lifecycle of Target Tags (Get, Create, Update, Delete).")
@@ -50,17 +80,22 @@ public class TargetTagService {
             case CREATE:
                 if (tagsToCreate == null || tagsToCreate.isEmpty())
                     throw new IllegalArgumentException("List of tags is required for CREATE action");
-                return mgmtTargetTagRestApi.createTargetTags(tagsToCreate).getBody();
+                List<MgmtTag> created = mgmtTargetTagRestApi.createTargetTags(tagsToCreate).getBody();
+                catalogCache.invalidateAll(Region.TARGET_TAGS);
+                return created;
 
             case UPDATE:
                 if (tagId == null || tagToUpdate == null)
                     throw new IllegalArgumentException("Tag ID and Body are required for UPDATE action");
-                return mgmtTargetTagRestApi.updateTargetTag(tagId, tagToUpdate).getBody();
+                MgmtTag updated = mgmtTargetTagRestApi.updateTargetTag(tagId, tagToUpdate).getBody();
+                catalogCache.invalidateAll(Region.TARGET_TAGS);
+                return updated;
 
             case DELETE:
                 if (tagId == null)
                     throw new IllegalArgumentException("Tag ID is required for DELETE action");
                 mgmtTargetTagRestApi.deleteTargetTag(tagId);
+                catalogCache.invalidateAll(Region.TARGET_TAGS);
                 return "Target Tag " + tagId + " deleted successfully.";
 
             default:
@@ -71,43 +106,94 @@ public class TargetTagService {
     // Target tag assignments tools
 
     @McpTool(name = "getAssignedTargets", description = "Handles the GET request of retrieving a list of assigned targets.")
-    PagedList<MgmtTarget> getAssignedTargets(
+    Object getAssignedTargets(
             @McpToolParam(description = "The ID of the Target Tag", required = true) Long targetTagId,
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam) {
-        return mgmtTargetTagRestApi.getAssignedTargets(targetTagId, rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. controllerId,name,updateStatus. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGETS, rsqlParam);
+        return responseShaper.shape(
+                mgmtTargetTagRestApi.getAssignedTargets(targetTagId, query, offset, limit, sortParam).getBody(),
+                fields, format);
     }
 
-    @McpTool(name = "manageTagAssignments", description = "Manages target assignments for a Target Tag (Assign or Unassign targets).")
-    String manageTagAssignments(
+    @McpTool(name = "manageTagAssignments", description = """
+            Manages target assignments for a Target Tag (Assign or Unassign targets).
+            Large lists are sent in chunks, with a few chunks in parallel. The result reports every chunk, and
+            failedControllerIds lists the targets of failed chunks, so only those need to be retried.""")
+    Map<String, Object> manageTagAssignments(
             @McpToolParam(description = "The ID of the Target Tag", required = true) Long targetTagId,
 
             @McpToolParam(description = "The action to perform (ASSIGN or UNASSIGN)", required = true) TagAssignmentAction action,
 
             @McpToolParam(description = "List of Target Controller IDs to assign or unassign", required = true) List<String> controllerIds,
 
-            @McpToolParam(description = "On not found policy (default: FAIL)", required = false) OnNotFoundPolicy onNotFoundPolicy) {
+            @McpToolParam(description = "On not found policy (default: FAIL)", required = false) OnNotFoundPolicy onNotFoundPolicy,
+
+            @McpToolParam(description = "Number of controller IDs sent per request (default: server setting)", required = false) Integer chunkSize,
+
+            @McpToolParam(description = "Number of chunks sent in parallel (default: server setting)", required = false) Integer parallelism) {
         // Use default policy if not provided
         OnNotFoundPolicy policy = (onNotFoundPolicy != null) ? onNotFoundPolicy : OnNotFoundPolicy.FAIL;
 
+        if (controllerIds == null || controllerIds.isEmpty())
+            throw new IllegalArgumentException("Controller IDs list is required for " + action);
+
+        Function<List<String>, Void> call;
         switch (action) {
             case ASSIGN:
-                if (controllerIds == null || controllerIds.isEmpty())
-                    throw new IllegalArgumentException("Controller IDs list is required for ASSIGN");
-                mgmtTargetTagRestApi.assignTargets(targetTagId, controllerIds, policy);
-                return "Targets assigned successfully to tag " + targetTagId;
+                call = chunk -> {
+                    mgmtTargetTagRestApi.assignTargets(targetTagId, chunk, policy);
+                    return null;
+                };
+                break;
 
             case UNASSIGN:
-                if (controllerIds == null || controllerIds.isEmpty())
-                    throw new IllegalArgumentException("Controller IDs list is required for UNASSIGN");
-                mgmtTargetTagRestApi.unassignTargets(targetTagId, policy, controllerIds);
-                return "Targets unassigned successfully from tag " + targetTagId;
+                call = chunk -> {
+                    mgmtTargetTagRestApi.unassignTargets(targetTagId, policy, chunk);
+                    return null;
+                };
+                break;
 
             default:
                 throw new IllegalArgumentException("Unsupported action: " + action);
         }
+
+        int finalChunkSize = bulkProperties.chunkSize(chunkSize);
+        List<BatchResult<String, Void>> chunks = batchExecutor.run(controllerIds, finalChunkSize,
+                bulkProperties.parallelism(parallelism), call);
+
+        List<Map<String, Object>> chunkResults = new ArrayList<>();
+        List<String> failedControllerIds = new ArrayList<>();
+        int failedChunks = 0;
+        for (BatchResult<String, Void> chunk : chunks) {
+            Map<String, Object> chunkResult = new LinkedHashMap<>();
+            chunkResult.put("chunk", chunk.index());
+            chunkResult.put("offset", chunk.offset());
+            chunkResult.put("size", chunk.items().size());
+            chunkResult.put("status", chunk.success() ? "SUCCESS" : "FAILED");
+            if (!chunk.success()) {
+                chunkResult.put("error", chunk.error());
+                failedControllerIds.addAll(chunk.items());
+                failedChunks++;
+            }
+            chunkResults.add(chunkResult);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetTagId", targetTagId);
+        result.put("action", action);
+        result.put("status", failedChunks == 0 ? "SUCCESS" : (failedChunks == chunks.size() ? "FAILED" : "PARTIAL"));
+        result.put("total", controllerIds.size());
+        result.put("succeeded", controllerIds.size() - failedControllerIds.size());
+        result.put("failed", failedControllerIds.size());
+        result.put("chunkSize", finalChunkSize);
+        result.put("chunks", chunkResults);
+        result.put("failedControllerIds", failedControllerIds);
+        return result;
     }
 }
 
@@ -8,28 +8,47 @@ import org.eclipse.hawkbit.mgmt.json.model.targettype.MgmtTargetType;
 import org.eclipse.hawkbit.mgmt.json.model.targettype.MgmtTargetTypeRequestBodyPost;
 import org.eclipse.hawkbit.mgmt.json.model.targettype.MgmtTargetTypeRequestBodyPut;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetTypeRestApi;
-import org.eclipse.hawkbit.sdk.HawkbitClient;
-import org.eclipse.hawkbit.sdk.Tenant;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.stereotype.Service;
 
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.support.CatalogCache;
+import com.romulo.hawkbit.mcp.support.CatalogCache.Region;
+import com.romulo.hawkbit.mcp.support.ResponseFormat;
+import com.romulo.hawkbit.mcp.support.ResponseShaper;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlCatalog;
+import com.romulo.hawkbit.mcp.support.fiql.FiqlValidator;
+
 @Service
 public class TargetTypeService {
 
     private final MgmtTargetTypeRestApi mgmtTargetTypeRestApi;
-
-    TargetTypeService(final HawkbitClient hawkbitClient, final Tenant tenant) {
-        this.mgmtTargetTypeRestApi = hawkbitClient.mgmtService(MgmtTargetTypeRestApi.class, tenant);
+    private final CatalogCache catalogCache;
+    private final ResponseShaper responseShaper;
+    private final FiqlValidator fiqlValidator;
+
+    TargetTypeService(final MgmtApiFactory mgmtApiFactory, final CatalogCache catalogCache,
+            final ResponseShaper responseShaper, final FiqlValidator fiqlValidator) {
+        this.mgmtTargetTypeRestApi = mgmtApiFactory.mgmtService(MgmtTargetTypeRestApi.class);
+        this.catalogCache = catalogCache;
+        this.responseShaper = responseShaper;
+        this.fiqlValidator = fiqlValidator;
     }
 
     @McpTool(name = "getTargetTypes", description = "Handles the GET request of retrieving all target types.")
-    PagedList<MgmtTargetType> getTargetTypes(
+    Object getTargetTypes(
             @McpToolParam(description = "Feed Item Query Language (FIQL) search filter.", required = false) String rsqlParam,
             @McpToolParam(description = "Offset", required = true) int offset,
             @McpToolParam(description = "Limit. Max value: 50", required = true) int limit,
-            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam) {
-        return mgmtTargetTypeRestApi.getTargetTypes(rsqlParam, offset, limit, sortParam).getBody();
+            @McpToolParam(description = "Sort parameter. Example: name:asc.", required = false) String sortParam,
+            @McpToolParam(description = "Comma-separated fields to return, e.g. id,key,name. Use dots for nested fields. Default: all fields", required = false) String fields,
+            @McpToolParam(description = "Response format: JSON (default) or TABLE (a header row of field names, then one row of values per item)", required = false) ResponseFormat format) {
+        String query = fiqlValidator.normalize(FiqlCatalog.TARGET_TYPES, rsqlParam);
+        PagedList<MgmtTargetType> targetTypes = catalogCache.get(Region.TARGET_TYPES,
+                () -> mgmtTargetTypeRestApi.getTargetTypes(query, offset, limit, sortParam).getBody(),
+                query, offset, limit, sortParam);
+        return responseShaper.shape(targetTypes, fields, format);
     }
 
     @McpTool(name = "manageTargetType", description = "Manages the lifecycle of Target Types (Create, Read, Update, Delete).")
@@ -50,17 +69,23 @@ public class TargetTypeService {
             case CREATE:
                 if (createBody == null || createBody.isEmpty())
                     throw new IllegalArgumentException("Body is required for CREATE");
-                return mgmtTargetTypeRestApi.createTargetTypes(createBody).getBody();
+                List<MgmtTargetType> created = mgmtTargetTypeRestApi.createTargetTypes(createBody).getBody();
+                catalogCache.invalidateAll(Region.TARGET_TYPES);
+                return created;
 
             case UPDATE:
                 if (targetTypeId == null || updateBody == null)
                     throw new IllegalArgumentException("ID and Body are required for UPDATE");
-                return mgmtTargetTypeRestApi.updateTargetType(targetTypeId, updateBody).getBody();
+                MgmtTargetType updated = mgmtTargetTypeRestApi.updateTargetType(targetTypeId, updateBody).getBody();
+                catalogCache.invalidateAll(Region.TARGET_TYPES);
+                return updated;
 
             case DELETE:
                 if (targetTypeId == null)
                     throw new IllegalArgumentException("ID is required for DELETE");
                 mgmtTargetTypeRestApi.deleteTargetType(targetTypeId);
+                catalogCache.invalidateAll(Region.TARGET_TYPES);
+                catalogCache.invalidate(Region.TYPE_COMPATIBILITY, targetTypeId);
                 return "Target Type " + targetTypeId + " deleted successfully.";
 
             default:
@@ -79,13 +104,17 @@ public class TargetTypeService {
             @McpToolParam(description = "ID of the Distribution Set Type to remove (Required for REMOVE)", required = false) Long distributionSetTypeId) {
         switch (action) {
             case LIST:
-                return mgmtTargetTypeRestApi.getCompatibleDistributionSets(targetTypeId).getBody();
+                return catalogCache.get(Region.TYPE_COMPATIBILITY,
+                        () -> mgmtTargetTypeRestApi.getCompatibleDistributionSets(targetTypeId).getBody(),
+                        targetTypeId);
 
             case ADD:
                 if (assignments == null || assignments.isEmpty()) {
                     throw new IllegalArgumentException("List of assignments is required for ADD");
                 }
                 mgmtTargetTypeRestApi.addCompatibleDistributionSets(targetTypeId, assignments);
+                catalogCache.invalidate(Region.TYPE_COMPATIBILITY, targetTypeId);
+                catalogCache.invalidateAll(Region.TARGET_TYPES);
                 return "Compatibilities added successfully.";
 
             case REMOVE:
@@ -93,6 +122,8 @@ public class TargetTypeService {
                     throw new IllegalArgumentException("distributionSetTypeId is required for REMOVE");
                 }
                 mgmtTargetTypeRestApi.removeCompatibleDistributionSet(targetTypeId, distributionSetTypeId);
+                catalogCache.invalidate(Region.TYPE_COMPATIBILITY, targetTypeId);
+                catalogCache.invalidateAll(Region.TARGET_TYPES);
                 return "Compatibility removed successfully.";
 
             default:
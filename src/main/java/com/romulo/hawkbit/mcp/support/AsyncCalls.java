@@ -0,0 +1,78 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.config.ConcurrencyProperties;
+
+/**
+ * Runs upstream hawkBit calls concurrently on the shared executor, each one bounded by the configured call timeout.
+ */
+@Component
+public class AsyncCalls {
+
+    private final ExecutorService executor;
+    private final Duration callTimeout;
+
+    public AsyncCalls(final ExecutorService hawkbitExecutor, final ConcurrencyProperties properties) {
+        this.executor = hawkbitExecutor;
+        this.callTimeout = properties.callTimeout();
+    }
+
+    /**
+     * Starts the call. When it times out or the returned future is cancelled, the thread running it is interrupted, so
+     * the HTTP request is aborted and its connection and concurrency limiter slot are freed instead of running on.
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, failure) -> {
+            if (failure != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for the call and rethrows its original failure instead of the {@link CompletionException} wrapper.
+     */
+    public <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            throw unwrap(e);
+        }
+    }
+
+    public RuntimeException unwrap(final Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TimeoutException) {
+            return new IllegalStateException("Upstream call timed out after " + callTimeout.toMillis() + " ms");
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+}
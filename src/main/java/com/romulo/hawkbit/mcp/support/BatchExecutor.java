@@ -0,0 +1,143 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends batches of a bulk operation to hawkBit with a bounded number of requests in flight. A failing batch is
+ * recorded in its {@link BatchResult} instead of aborting the remaining ones.
+ */
+@Component
+public class BatchExecutor {
+
+    /**
+     * @param index    position of the batch in submission order
+     * @param offset   position of the first item of the batch in the whole input
+     * @param items    the items sent in the batch
+     * @param response the upstream response, {@code null} if the batch failed
+     * @param error    the failure message, {@code null} if the batch succeeded
+     */
+    public record BatchResult<T, R>(int index, int offset, List<T> items, R response, String error) {
+
+        public boolean success() {
+            return error == null;
+        }
+    }
+
+    private final ExecutorService executor;
+
+    public BatchExecutor(final ExecutorService hawkbitExecutor) {
+        this.executor = hawkbitExecutor;
+    }
+
+    /**
+     * Splits the items into chunks and sends them with at most {@code parallelism} chunks in flight.
+     */
+    public <T, R> List<BatchResult<T, R>> run(final List<T> items, final int chunkSize, final int parallelism,
+            final Function<List<T>, R> call) {
+        BatchRun<T, R> run = start(parallelism, call);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            run.submit(List.copyOf(items.subList(from, Math.min(from + chunkSize, items.size()))));
+        }
+        return run.await();
+    }
+
+    /**
+     * Starts an operation whose results are collected and returned by {@link BatchRun#await()}.
+     */
+    public <T, R> BatchRun<T, R> start(final int parallelism, final Function<List<T>, R> call) {
+        List<BatchResult<T, R>> results = new ArrayList<>();
+        return new BatchRun<>(parallelism, call, results::add, results);
+    }
+
+    /**
+     * Starts an operation that hands every result to {@code onResult} as soon as its batch completes and keeps
+     * nothing, so the items of a long-running import are not held until the end. {@code onResult} is called by one
+     * batch at a time; {@link BatchRun#await()} returns an empty list.
+     */
+    public <T, R> BatchRun<T, R> start(final int parallelism, final Function<List<T>, R> call,
+            final Consumer<BatchResult<T, R>> onResult) {
+        return new BatchRun<>(parallelism, call, onResult, List.of());
+    }
+
+    /**
+     * An operation whose batches are produced incrementally. {@link #submit(List)} blocks while the maximum number of
+     * batches is in flight, which applies backpressure to the producer.
+     */
+    public final class BatchRun<T, R> {
+
+        private final int parallelism;
+        private final Semaphore inFlight;
+        private final Function<List<T>, R> call;
+        private final Consumer<BatchResult<T, R>> onResult;
+        private final List<BatchResult<T, R>> collected;
+        private int submittedBatches;
+        private int submittedItems;
+
+        private BatchRun(final int parallelism, final Function<List<T>, R> call,
+                final Consumer<BatchResult<T, R>> onResult, final List<BatchResult<T, R>> collected) {
+            this.parallelism = Math.max(parallelism, 1);
+            this.inFlight = new Semaphore(this.parallelism);
+            this.call = call;
+            this.onResult = onResult;
+            this.collected = collected;
+        }
+
+        public void submit(final List<T> batch) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a free batch slot", e);
+            }
+            int index = submittedBatches++;
+            int offset = submittedItems;
+            submittedItems += batch.size();
+            try {
+                executor.execute(() -> execute(index, offset, batch));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Waits until every submitted batch has completed. Must be called by the thread that submitted the batches.
+         */
+        public List<BatchResult<T, R>> await() {
+            try {
+                inFlight.acquire(parallelism);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the batches to complete", e);
+            }
+            inFlight.release(parallelism);
+            synchronized (this) {
+                return collected.stream().sorted(Comparator.comparingInt(BatchResult::index)).toList();
+            }
+        }
+
+        private void execute(final int index, final int offset, final List<T> batch) {
+            try {
+                BatchResult<T, R> result;
+                try {
+                    result = new BatchResult<>(index, offset, batch, call.apply(batch), null);
+                } catch (Exception e) {
+                    result = new BatchResult<>(index, offset, batch, null, String.valueOf(e.getMessage()));
+                }
+                synchronized (this) {
+                    onResult.accept(result);
+                }
+            } finally {
+                inFlight.release();
+            }
+        }
+    }
+}
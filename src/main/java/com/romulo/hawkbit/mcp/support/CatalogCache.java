@@ -0,0 +1,109 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.romulo.hawkbit.mcp.client.TenantContext;
+import com.romulo.hawkbit.mcp.config.CacheProperties;
+
+/**
+ * Read-through cache for catalog entities that rarely change (target types, tags, filters, type compatibilities) and
+ * for computed fleet aggregates, which are allowed to be slightly stale. Every region is bounded in size and expires
+ * entries after its own TTL; write tools invalidate the region they touch. Keys include the tenant of the current tool
+ * call.
+ */
+@Component
+public class CatalogCache {
+
+    public enum Region {
+        TARGET_TYPES,
+        TARGET_TAGS,
+        TARGET_FILTERS,
+        TYPE_COMPATIBILITY,
+        FLEET_AGGREGATES
+    }
+
+    private final Map<Region, Cache<Object, Object>> caches = new EnumMap<>(Region.class);
+
+    public CatalogCache(final CacheProperties properties) {
+        caches.put(Region.TARGET_TYPES, build(properties.maxEntries(), properties.targetTypesTtl()));
+        caches.put(Region.TARGET_TAGS, build(properties.maxEntries(), properties.targetTagsTtl()));
+        caches.put(Region.TARGET_FILTERS, build(properties.maxEntries(), properties.targetFiltersTtl()));
+        caches.put(Region.TYPE_COMPATIBILITY, build(properties.maxEntries(), properties.compatibilityTtl()));
+        caches.put(Region.FLEET_AGGREGATES, build(properties.maxEntries(), properties.fleetAggregatesTtl()));
+    }
+
+    /**
+     * Returns the cached value for the key parts, loading it on a miss. {@code null} results are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Region region, final Supplier<T> loader, final Object... keyParts) {
+        return (T) caches.get(region).get(key(keyParts), key -> loader.get());
+    }
+
+    /**
+     * Returns the cached value for the key parts, or {@code null}. With {@link #put} it lets long computations run
+     * outside the cache, which {@link #get} blocks for the key while the loader runs.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(final Region region, final Object... keyParts) {
+        return (T) caches.get(region).getIfPresent(key(keyParts));
+    }
+
+    public void put(final Region region, final Object value, final Object... keyParts) {
+        caches.get(region).put(key(keyParts), value);
+    }
+
+    public void invalidate(final Region region, final Object... keyParts) {
+        caches.get(region).invalidate(key(keyParts));
+    }
+
+    /**
+     * Drops all entries of the region that belong to the current tenant.
+     */
+    public void invalidateAll(final Region region) {
+        String tenant = TenantContext.current();
+        caches.get(region).asMap().keySet().removeIf(key -> tenant.equals(((List<?>) key).get(0)));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        caches.forEach((region, cache) -> {
+            CacheStats cacheStats = cache.stats();
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("size", cache.estimatedSize());
+            regionStats.put("hits", cacheStats.hitCount());
+            regionStats.put("misses", cacheStats.missCount());
+            regionStats.put("hitRate", cacheStats.hitRate());
+            regionStats.put("evictions", cacheStats.evictionCount());
+            stats.put(region.name(), regionStats);
+        });
+        return stats;
+    }
+
+    private static List<Object> key(final Object... keyParts) {
+        List<Object> key = new ArrayList<>(keyParts.length + 1);
+        key.add(TenantContext.current());
+        key.addAll(Arrays.asList(keyParts));
+        return key;
+    }
+
+    private static Cache<Object, Object> build(final long maxEntries, final Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
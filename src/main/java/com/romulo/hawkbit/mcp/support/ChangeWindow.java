@@ -0,0 +1,65 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Position of an incremental feed over entities ordered by {@code lastModifiedAt}. hawkBit sets the timestamp when the
+ * change is flushed, not when its transaction commits, so a change may become visible after later ones were already
+ * delivered. Reads therefore start {@code lag} before the watermark, and the (id, lastModifiedAt) pairs delivered in
+ * that window are remembered and skipped when they come back, so a change is neither lost nor reported twice.
+ * <p>
+ * Not thread-safe; the owner synchronizes.
+ */
+public final class ChangeWindow {
+
+    private final long start;
+    private final long lagMillis;
+    private final Map<Long, Long> delivered = new HashMap<>();
+    private long watermark;
+
+    /**
+     * @param start     epoch millis; older changes are never reported
+     * @param lagMillis how far before the watermark a change may still show up
+     */
+    public ChangeWindow(final long start, final long lagMillis) {
+        this.start = start;
+        this.lagMillis = lagMillis;
+        this.watermark = start;
+    }
+
+    /**
+     * Lower bound (inclusive) of the {@code lastModifiedAt} values to read.
+     */
+    public long readFrom() {
+        return Math.max(start, watermark - lagMillis);
+    }
+
+    /**
+     * Number of already delivered changes a read from {@link #readFrom()} may return again.
+     */
+    public int redelivered() {
+        return delivered.size();
+    }
+
+    public boolean isNew(final long id, final long lastModifiedAt) {
+        Long deliveredAt = delivered.get(id);
+        return deliveredAt == null || deliveredAt != lastModifiedAt;
+    }
+
+    /**
+     * Records a delivered change, moves the watermark and forgets the changes that fell out of the window.
+     */
+    public void delivered(final long id, final long lastModifiedAt) {
+        delivered.put(id, lastModifiedAt);
+        if (lastModifiedAt > watermark) {
+            watermark = lastModifiedAt;
+            long from = readFrom();
+            delivered.values().removeIf(at -> at < from);
+        }
+    }
+
+    public long watermark() {
+        return watermark;
+    }
+}
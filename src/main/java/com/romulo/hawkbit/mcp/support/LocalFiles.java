@@ -0,0 +1,50 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Confines file paths chosen by tool callers to a configured directory. Tools run on behalf of remote clients, so a
+ * path must never reach files outside that directory, neither as an absolute path, through {@code ..} segments nor
+ * through symbolic links.
+ */
+public final class LocalFiles {
+
+    private LocalFiles() {
+    }
+
+    /**
+     * Resolves a relative path inside the directory, creating the directory if needed.
+     *
+     * @throws IllegalArgumentException if the path is absolute or resolves to a location outside the directory
+     */
+    public static Path resolve(final Path directory, final String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            throw new IllegalArgumentException("File path is required");
+        }
+        Path relative = Path.of(filePath);
+        if (relative.isAbsolute()) {
+            throw new IllegalArgumentException("Absolute paths are not allowed, give a path relative to " + directory);
+        }
+        try {
+            Path base = Files.createDirectories(directory.toAbsolutePath().normalize()).toRealPath();
+            Path resolved = base.resolve(relative).normalize();
+            if (!resolved.startsWith(base) || resolved.equals(base)) {
+                throw new IllegalArgumentException("Path escapes " + directory + ": " + filePath);
+            }
+            // the deepest existing ancestor must not lead outside through a symbolic link
+            Path existing = resolved;
+            while (!Files.exists(existing)) {
+                existing = existing.getParent();
+            }
+            if (!existing.toRealPath().startsWith(base)) {
+                throw new IllegalArgumentException("Path escapes " + directory + ": " + filePath);
+            }
+            return resolved;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to resolve " + filePath + " in " + directory, e);
+        }
+    }
+}
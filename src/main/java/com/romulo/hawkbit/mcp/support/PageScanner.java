@@ -0,0 +1,82 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.config.ScanProperties;
+
+/**
+ * Walks an offset/limit paged hawkBit resource server-side. The next page is requested in the background while the
+ * current one is handed to the consumer, so upstream fetches stay pipelined.
+ */
+@Component
+public class PageScanner {
+
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        PagedList<? extends T> fetch(int offset, int limit);
+    }
+
+    /**
+     * @param total      total number of items reported by hawkBit
+     * @param visited    number of items handed to the consumer
+     * @param nextOffset offset to resume from, or {@code null} when the resource was fully walked
+     */
+    public record ScanResult(long total, int visited, Integer nextOffset) {
+    }
+
+    private final AsyncCalls asyncCalls;
+    private final ScanProperties properties;
+
+    public PageScanner(final AsyncCalls asyncCalls, final ScanProperties properties) {
+        this.asyncCalls = asyncCalls;
+        this.properties = properties;
+    }
+
+    public int pageSize() {
+        return properties.pageSize();
+    }
+
+    public <T> ScanResult forEach(final PageFetcher<T> fetcher, final int startOffset, final int maxItems,
+            final Consumer<? super T> consumer) {
+        int offset = Math.max(startOffset, 0);
+        int visited = 0;
+        CompletableFuture<PagedList<? extends T>> next = fetchPage(fetcher, offset, Math.min(pageSize(), maxItems));
+        try {
+            while (true) {
+                PagedList<? extends T> page = asyncCalls.join(next);
+                List<? extends T> content = (page == null || page.getContent() == null) ? List.of()
+                        : page.getContent();
+                long total = (page == null) ? 0 : page.getTotal();
+                int nextOffset = offset + content.size();
+                int remaining = maxItems - visited - content.size();
+                boolean hasMore = !content.isEmpty() && nextOffset < total;
+
+                next = (hasMore && remaining > 0) ? fetchPage(fetcher, nextOffset, Math.min(pageSize(), remaining))
+                        : null;
+
+                content.forEach(consumer);
+                visited += content.size();
+                offset = nextOffset;
+
+                if (next == null) {
+                    return new ScanResult(total, visited, hasMore ? nextOffset : null);
+                }
+            }
+        } finally {
+            // the consumer or the wait failed: nobody will read the prefetched page, abort its request
+            if (next != null) {
+                next.cancel(true);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<PagedList<? extends T>> fetchPage(final PageFetcher<T> fetcher, final int offset,
+            final int limit) {
+        return asyncCalls.submit(() -> fetcher.fetch(offset, limit));
+    }
+}
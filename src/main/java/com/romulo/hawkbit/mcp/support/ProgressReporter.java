@@ -0,0 +1,33 @@
+package com.romulo.hawkbit.mcp.support;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+
+/**
+ * Sends MCP progress notifications for long-running tools. Does nothing when the client did not ask for progress.
+ */
+public final class ProgressReporter {
+
+    private final McpSyncServerExchange exchange;
+    private final String progressToken;
+
+    private ProgressReporter(final McpSyncServerExchange exchange, final String progressToken) {
+        this.exchange = exchange;
+        this.progressToken = progressToken;
+    }
+
+    public static ProgressReporter of(final McpSyncServerExchange exchange, final String progressToken) {
+        return new ProgressReporter(exchange, progressToken);
+    }
+
+    public void report(final double progress, final Double total, final String message) {
+        if (exchange == null || progressToken == null) {
+            return;
+        }
+        try {
+            exchange.progressNotification(new McpSchema.ProgressNotification(progressToken, progress, total, message));
+        } catch (RuntimeException e) {
+            // progress is best effort, it must never fail the operation itself
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.romulo.hawkbit.mcp.support;
+
+public enum ResponseFormat {
+    JSON,
+    TABLE
+}
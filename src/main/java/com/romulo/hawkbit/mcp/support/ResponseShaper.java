@@ -0,0 +1,135 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Shared output layer for list tools: projects items to the requested fields, drops hypermedia links and optionally
+ * encodes the items as a table (one header row of field names, then one row of values per item).
+ */
+@Component
+public class ResponseShaper {
+
+    private static final Set<String> LINK_FIELDS = Set.of("_links", "links");
+
+    private final ObjectMapper objectMapper;
+
+    public ResponseShaper(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Shapes a tool response. Paged lists ({@code content} + {@code total}), plain lists and single objects are
+     * supported. Without fields and format the response is returned untouched.
+     *
+     * @param fields comma-separated field names, dotted for nested fields (e.g. {@code pollStatus.overdue})
+     */
+    public Object shape(final Object response, final String fields, final ResponseFormat format) {
+        List<String> projection = parseFields(fields);
+        ResponseFormat finalFormat = (format != null) ? format : ResponseFormat.JSON;
+        if (response == null || (projection.isEmpty() && finalFormat == ResponseFormat.JSON)) {
+            return response;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(response);
+        boolean paged = tree.isObject() && tree.path("content").isArray();
+        JsonNode items = paged ? tree.get("content") : tree;
+
+        if (finalFormat == ResponseFormat.TABLE) {
+            ObjectNode table = objectMapper.createObjectNode();
+            if (paged) {
+                table.set("total", tree.get("total"));
+                table.set("size", tree.get("size"));
+            }
+            List<JsonNode> rows = items.isArray() ? toList(items) : List.of(items);
+            List<String> columns = projection.isEmpty() ? columns(rows) : projection;
+            ArrayNode header = table.putArray("columns");
+            columns.forEach(header::add);
+            ArrayNode values = table.putArray("rows");
+            for (JsonNode item : rows) {
+                ArrayNode row = values.addArray();
+                columns.forEach(column -> row.add(valueAt(item, column)));
+            }
+            return table;
+        }
+
+        if (!items.isArray()) {
+            return project(items, projection);
+        }
+        ArrayNode projected = objectMapper.createArrayNode();
+        items.forEach(item -> projected.add(project(item, projection)));
+        if (!paged) {
+            return projected;
+        }
+        ObjectNode page = objectMapper.createObjectNode();
+        page.set("content", projected);
+        page.set("total", tree.get("total"));
+        page.set("size", tree.get("size"));
+        return page;
+    }
+
+    private JsonNode project(final JsonNode item, final List<String> projection) {
+        if (!item.isObject()) {
+            return item;
+        }
+        ObjectNode projected = objectMapper.createObjectNode();
+        if (projection.isEmpty()) {
+            item.fields().forEachRemaining(field -> {
+                if (!LINK_FIELDS.contains(field.getKey())) {
+                    projected.set(field.getKey(), field.getValue());
+                }
+            });
+        } else {
+            projection.forEach(field -> projected.set(field, valueAt(item, field)));
+        }
+        return projected;
+    }
+
+    private static JsonNode valueAt(final JsonNode item, final String field) {
+        JsonNode node = item;
+        for (String part : field.split("\\.")) {
+            node = node.path(part);
+        }
+        return node.isMissingNode() ? NullNode.getInstance() : node;
+    }
+
+    private static List<String> columns(final List<JsonNode> rows) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (JsonNode row : rows) {
+            Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+            while (fields.hasNext()) {
+                String name = fields.next().getKey();
+                if (!LINK_FIELDS.contains(name)) {
+                    columns.add(name);
+                }
+            }
+        }
+        return new ArrayList<>(columns);
+    }
+
+    private static List<JsonNode> toList(final JsonNode array) {
+        List<JsonNode> list = new ArrayList<>(array.size());
+        array.forEach(list::add);
+        return list;
+    }
+
+    private static List<String> parseFields(final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).distinct().toList();
+    }
+}
@@ -0,0 +1,242 @@
+package com.romulo.hawkbit.mcp.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtDistributionSet;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.romulo.hawkbit.mcp.client.MgmtApiFactory;
+import com.romulo.hawkbit.mcp.config.BulkProperties;
+import com.romulo.hawkbit.mcp.config.TargetIndexProperties;
+import com.romulo.hawkbit.mcp.support.BatchExecutor.BatchRun;
+
+/**
+ * Background mirror of the targets in a compact in-memory index. It is seeded by a full paged scan, reading the
+ * assigned and installed DS of each target as its page arrives, and kept fresh by periodically fetching only the
+ * targets whose {@code lastmodifiedat} is at or after the highest value seen so far. Deleted targets and controller
+ * polls, which do not change {@code lastmodifiedat}, are only noticed by the periodic reseed. All upstream work is
+ * driven by a single scheduler thread, started once the application context is refreshed, so seeding and syncing never
+ * overlap.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hawkbit.mcp.target-index", name = "enabled", havingValue = "true")
+public class TargetIndex implements SmartLifecycle {
+
+    private static final String SORT_BY_ID = "id:asc";
+    private static final String SORT_BY_LAST_MODIFIED = "lastmodifiedat:asc";
+
+    /**
+     * The mirrored state of one target. Repeated values (status, type, DS) share one string instance.
+     */
+    public record IndexedTarget(String controllerId, String name, String updateStatus, String targetType,
+            String assignedDs, String installedDs, Long lastControllerRequestAt, long lastModifiedAt) {
+    }
+
+    private final MgmtTargetRestApi targetRestApi;
+    private final PageScanner pageScanner;
+    private final BatchExecutor batchExecutor;
+    private final BulkProperties bulkProperties;
+    private final TargetIndexProperties properties;
+    private final Map<String, String> interned = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler; // guarded by this
+
+    private volatile Map<String, IndexedTarget> targets = Map.of();
+    private volatile Instant syncedAt;
+    private volatile Instant seededAt;
+    private volatile String lastError;
+    private final AtomicLong watermark = new AtomicLong();
+    private final AtomicLong syncedTargets = new AtomicLong();
+
+    public TargetIndex(final MgmtApiFactory mgmtApiFactory, final PageScanner pageScanner,
+            final BatchExecutor batchExecutor, final BulkProperties bulkProperties,
+            final TargetIndexProperties properties) {
+        this.targetRestApi = mgmtApiFactory.mgmtService(MgmtTargetRestApi.class);
+        this.pageScanner = pageScanner;
+        this.batchExecutor = batchExecutor;
+        this.bulkProperties = bulkProperties;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("target-index").factory());
+            scheduler.scheduleWithFixedDelay(this::refresh, 0, properties.syncInterval().toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    public IndexedTarget get(final String controllerId) {
+        return targets.get(controllerId);
+    }
+
+    public Stream<IndexedTarget> targets() {
+        return targets.values().stream();
+    }
+
+    /**
+     * Time of the last successful seed or sync, {@code null} until the first seed completed.
+     */
+    public Instant syncedAt() {
+        return syncedAt;
+    }
+
+    public Duration staleness() {
+        Instant synced = syncedAt;
+        return (synced == null) ? null : Duration.between(synced, Instant.now());
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", syncedAt != null);
+        status.put("size", targets.size());
+        status.put("seededAt", seededAt != null ? seededAt.toString() : null);
+        status.put("syncedAt", syncedAt != null ? syncedAt.toString() : null);
+        status.put("watermark", watermark.get());
+        status.put("incrementallySyncedTargets", syncedTargets.get());
+        status.put("lastError", lastError);
+        return status;
+    }
+
+    void refresh() {
+        try {
+            Instant started = Instant.now();
+            if (seededAt == null || Duration.between(seededAt, started).compareTo(properties.reseedInterval()) >= 0) {
+                seed();
+                seededAt = started;
+            } else {
+                sync();
+            }
+            syncedAt = started;
+            lastError = null;
+        } catch (RuntimeException e) {
+            // keeps serving the previous state; staleness() tells lookups how old it is
+            lastError = String.valueOf(e.getMessage());
+        }
+    }
+
+    private void seed() {
+        Map<String, IndexedTarget> seeded = new ConcurrentHashMap<>();
+        AtomicLong maxModified = new AtomicLong();
+        AtomicReference<String> failure = new AtomicReference<>();
+        BatchRun<MgmtTarget, Void> run = indexing(seeded, failure);
+        try {
+            pageScanner.<MgmtTarget>forEach(
+                    (offset, limit) -> targetRestApi.getTargets(null, offset, limit, SORT_BY_ID).getBody(),
+                    0, properties.maxTargets(), target -> {
+                        if (failure.get() != null) {
+                            throw new IllegalStateException("Seed failed: " + failure.get());
+                        }
+                        maxModified.accumulateAndGet(target.getLastModifiedAt(), Math::max);
+                        // blocks while the maximum number of targets is in flight
+                        run.submit(List.of(target));
+                    });
+        } finally {
+            run.await();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Seed failed: " + failure.get());
+        }
+
+        targets = seeded;
+        watermark.set(maxModified.get());
+    }
+
+    private void sync() {
+        Map<String, IndexedTarget> current = targets;
+        List<MgmtTarget> changed = new ArrayList<>();
+        long since = watermark.get();
+        // =ge= instead of =gt= so targets modified within the same millisecond as the watermark are not missed; the
+        // ones at the watermark that are already indexed with that timestamp come back every time and are skipped
+        pageScanner.<MgmtTarget>forEach((offset, limit) -> targetRestApi
+                .getTargets("lastmodifiedat=ge=" + since, offset, limit, SORT_BY_LAST_MODIFIED).getBody(),
+                0, properties.maxTargets(), target -> {
+                    IndexedTarget indexed = current.get(target.getControllerId());
+                    if (target.getLastModifiedAt() != since || indexed == null
+                            || indexed.lastModifiedAt() != since) {
+                        changed.add(target);
+                    }
+                });
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        BatchRun<MgmtTarget, Void> run = indexing(current, failure);
+        try {
+            changed.forEach(target -> run.submit(List.of(target)));
+        } finally {
+            run.await();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Incremental sync failed: " + failure.get());
+        }
+
+        long maxModified = changed.stream().mapToLong(MgmtTarget::getLastModifiedAt).max().orElse(since);
+        watermark.accumulateAndGet(maxModified, Math::max);
+        syncedTargets.addAndGet(changed.size());
+    }
+
+    /**
+     * Indexes each submitted target with its assigned and installed DS, which the target resource only links to, with
+     * bounded concurrency. The first failure is recorded in {@code failure}.
+     */
+    private BatchRun<MgmtTarget, Void> indexing(final Map<String, IndexedTarget> into,
+            final AtomicReference<String> failure) {
+        return batchExecutor.start(bulkProperties.parallelism(), chunk -> {
+            MgmtTarget target = chunk.get(0);
+            String controllerId = target.getControllerId();
+            MgmtDistributionSet assigned = targetRestApi.getAssignedDistributionSet(controllerId).getBody();
+            MgmtDistributionSet installed = targetRestApi.getInstalledDistributionSet(controllerId).getBody();
+            into.put(controllerId, toIndexed(target, dsName(assigned), dsName(installed)));
+            return null;
+        }, result -> {
+            if (!result.success()) {
+                failure.compareAndSet(null, result.error());
+            }
+        });
+    }
+
+    private IndexedTarget toIndexed(final MgmtTarget target, final String assignedDs, final String installedDs) {
+        return new IndexedTarget(target.getControllerId(), target.getName(), intern(target.getUpdateStatus()),
+                intern(target.getTargetTypeName()), assignedDs, installedDs, target.getLastControllerRequestAt(),
+                target.getLastModifiedAt());
+    }
+
+    private String dsName(final MgmtDistributionSet ds) {
+        return (ds == null) ? null : intern(ds.getName() + ":" + ds.getVersion());
+    }
+
+    private String intern(final String value) {
+        return (value == null) ? null : interned.computeIfAbsent(value, key -> key);
+    }
+}
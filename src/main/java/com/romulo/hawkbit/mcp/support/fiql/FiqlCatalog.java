@@ -0,0 +1,104 @@
+package com.romulo.hawkbit.mcp.support.fiql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The fields each hawkBit resource accepts in FIQL filters, mirroring hawkBit's {@code *Fields} enums
+ * ({@code TargetFields}, {@code ActionFields}, {@code RolloutFields}, ...). A field referring to another entity is
+ * queried through one of its sub-attributes ({@code assignedds.version}) or by its bare name, which hawkBit maps to the
+ * default (first) sub-attribute ({@code assignedds} is {@code assignedds.name}). A map field takes any key
+ * ({@code attribute.<key>}). hawkBit matches field names case-insensitively; the spelling listed here is the one
+ * queries are normalized to.
+ */
+public enum FiqlCatalog {
+
+    TARGETS("targets",
+            field("id"), field("name"), field("description"), field("createdat"), field("createdby"),
+            field("lastmodifiedat"), field("lastmodifiedby"), field("controllerid"), field("updatestatus"),
+            field("ipaddress"), field("lastcontrollerrequestat"),
+            entity("assignedds", "name", "version"), entity("installedds", "name", "version"),
+            entity("tag", "name"), entity("targettype", "key", "name"),
+            map("attribute"), map("metadata")),
+    ACTIONS("actions",
+            field("id"), field("active"), field("status"), field("lastactionstatuscode"), field("createdat"),
+            field("createdby"), field("lastmodifiedat"), field("lastmodifiedby"), field("weight"),
+            field("externalref"),
+            entity("target", "controllerid", "name", "updatestatus", "address"),
+            entity("distributionset", "id", "name", "version", "type"),
+            entity("rollout", "id", "name"), entity("rolloutgroup", "id", "name")),
+    ROLLOUTS("rollouts",
+            field("id"), field("name"), field("description"), field("status"),
+            entity("distributionset", "id", "name", "version", "type")),
+    ROLLOUT_GROUPS("rollout groups", field("id"), field("name"), field("description")),
+    TARGET_TAGS("target tags", field("id"), field("name"), field("description"), field("colour")),
+    TARGET_TYPES("target types", field("id"), field("key"), field("name"), field("description")),
+    TARGET_FILTERS("target filters",
+            field("id"), field("name"), entity("autoassigndistributionset", "name", "version"));
+
+    // A field of a resource: a plain value, an entity with sub-attributes (the first is the default) or a map
+    private record Field(String name, List<String> subAttributes, boolean map) {
+    }
+
+    private final String resource;
+    private final Map<String, String> fields = new LinkedHashMap<>();
+    private final Map<String, String> mapFields = new LinkedHashMap<>();
+
+    FiqlCatalog(final String resource, final Field... fields) {
+        this.resource = resource;
+        for (Field field : fields) {
+            if (field.map()) {
+                this.mapFields.put(field.name().toLowerCase(Locale.ROOT), field.name());
+                continue;
+            }
+            this.fields.put(field.name().toLowerCase(Locale.ROOT), field.name());
+            for (String subAttribute : field.subAttributes()) {
+                String name = field.name() + "." + subAttribute;
+                this.fields.put(name.toLowerCase(Locale.ROOT), name);
+            }
+        }
+    }
+
+    private static Field field(final String name) {
+        return new Field(name, List.of(), false);
+    }
+
+    private static Field entity(final String name, final String... subAttributes) {
+        return new Field(name, List.of(subAttributes), false);
+    }
+
+    private static Field map(final String name) {
+        return new Field(name, List.of(), true);
+    }
+
+    /**
+     * Returns the canonical spelling of the selector, or {@code null} if the resource does not know the field. For map
+     * fields only the prefix is normalized, the key keeps its case.
+     */
+    String resolve(final String selector) {
+        String field = fields.get(selector.toLowerCase(Locale.ROOT));
+        if (field != null) {
+            return field;
+        }
+        int dot = selector.indexOf('.');
+        if (dot > 0 && dot < selector.length() - 1) {
+            String mapField = mapFields.get(selector.substring(0, dot).toLowerCase(Locale.ROOT));
+            if (mapField != null) {
+                return mapField + selector.substring(dot);
+            }
+        }
+        return null;
+    }
+
+    String describe() {
+        StringBuilder description = new StringBuilder(String.join(", ", fields.values()));
+        mapFields.values().forEach(field -> description.append(", ").append(field).append(".<key>"));
+        return description.toString();
+    }
+
+    String resource() {
+        return resource;
+    }
+}
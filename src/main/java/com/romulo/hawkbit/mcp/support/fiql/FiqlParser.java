@@ -0,0 +1,227 @@
+package com.romulo.hawkbit.mcp.support.fiql;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recursive descent parser for the FIQL/RSQL dialect accepted by hawkBit. It checks the syntax and the field names
+ * against a {@link FiqlCatalog} and returns the query with field names in their canonical spelling; operators, values
+ * and whitespace are kept as written.
+ *
+ * <pre>
+ * or         = and { ("," | " or ") and }
+ * and        = constraint { (";" | " and ") constraint }
+ * constraint = "(" or ")" | selector comparator arguments
+ * arguments  = "(" value { "," value } ")" | value
+ * value      = unreserved+ | '"' ... '"' | "'" ... "'"
+ * </pre>
+ */
+final class FiqlParser {
+
+    private static final List<String> COMPARATORS = List.of("==", "!=", "=lt=", "=le=", "=gt=", "=ge=", "<", "<=", ">",
+            ">=", "=in=", "=out=", "=is=", "=not=");
+    private static final Set<String> MULTI_VALUE_COMPARATORS = Set.of("=in=", "=out=");
+    private static final String RESERVED = "\"'();,=!~<>";
+    private static final int SNIPPET_LENGTH = 20;
+
+    private final FiqlCatalog catalog;
+    private final String query;
+    private final StringBuilder normalized;
+    private int pos;
+    private int copied;
+
+    private FiqlParser(final FiqlCatalog catalog, final String query) {
+        this.catalog = catalog;
+        this.query = query;
+        this.normalized = new StringBuilder(query.length());
+    }
+
+    /**
+     * @throws IllegalArgumentException with the position of the first error
+     */
+    static String normalize(final FiqlCatalog catalog, final String query) {
+        return new FiqlParser(catalog, query).parse();
+    }
+
+    private String parse() {
+        skipWhitespace();
+        if (atEnd()) {
+            throw error(pos, "the filter is empty");
+        }
+        or();
+        skipWhitespace();
+        if (!atEnd()) {
+            throw error(pos, "unexpected '" + query.charAt(pos) + "', expected ',' or ';'");
+        }
+        normalized.append(query, copied, query.length());
+        return normalized.toString();
+    }
+
+    private void or() {
+        and();
+        while (true) {
+            skipWhitespace();
+            if (!consume(',') && !consumeKeyword("or")) {
+                return;
+            }
+            and();
+        }
+    }
+
+    private void and() {
+        constraint();
+        while (true) {
+            skipWhitespace();
+            if (!consume(';') && !consumeKeyword("and")) {
+                return;
+            }
+            constraint();
+        }
+    }
+
+    private void constraint() {
+        skipWhitespace();
+        int start = pos;
+        if (consume('(')) {
+            or();
+            skipWhitespace();
+            if (!consume(')')) {
+                throw error(start, "unbalanced '('");
+            }
+            return;
+        }
+        comparison();
+    }
+
+    private void comparison() {
+        int start = pos;
+        String selector = unreserved();
+        if (selector.isEmpty()) {
+            throw error(pos, atEnd() ? "expected a field name but the filter ended" : "expected a field name");
+        }
+        String field = catalog.resolve(selector);
+        if (field == null) {
+            throw error(start, "unknown field '" + selector + "' for " + catalog.resource() + ". Known fields: "
+                    + catalog.describe());
+        }
+        normalized.append(query, copied, start).append(field);
+        copied = pos;
+
+        skipWhitespace();
+        String comparator = comparator();
+        skipWhitespace();
+        if (consume('(')) {
+            int listStart = pos - 1;
+            if (!MULTI_VALUE_COMPARATORS.contains(comparator)) {
+                throw error(listStart, "'" + comparator + "' takes a single value, only =in= and =out= take a list");
+            }
+            do {
+                skipWhitespace();
+                value();
+                skipWhitespace();
+            } while (consume(','));
+            if (!consume(')')) {
+                throw error(listStart, "unbalanced '(' in value list");
+            }
+        } else {
+            value();
+        }
+    }
+
+    private String comparator() {
+        int start = pos;
+        if (query.startsWith("==", pos) || query.startsWith("!=", pos) || query.startsWith("<=", pos)
+                || query.startsWith(">=", pos)) {
+            pos += 2;
+        } else if (!atEnd() && (query.charAt(pos) == '<' || query.charAt(pos) == '>')) {
+            pos++;
+        } else if (!atEnd() && query.charAt(pos) == '=') {
+            int end = pos + 1;
+            while (end < query.length() && Character.isLetter(query.charAt(end))) {
+                end++;
+            }
+            if (end < query.length() && query.charAt(end) == '=') {
+                pos = end + 1;
+            }
+        }
+        String comparator = query.substring(start, pos);
+        if (comparator.isEmpty()) {
+            throw error(start, atEnd() ? "expected an operator but the filter ended" : "expected an operator such as == or =in=");
+        }
+        if (!COMPARATORS.contains(comparator)) {
+            throw error(start, "unknown operator '" + comparator + "'. Known operators: " + String.join(" ", COMPARATORS));
+        }
+        return comparator;
+    }
+
+    private void value() {
+        if (atEnd()) {
+            throw error(pos, "expected a value but the filter ended");
+        }
+        char quote = query.charAt(pos);
+        if (quote == '"' || quote == '\'') {
+            int start = pos++;
+            while (pos < query.length() && query.charAt(pos) != quote) {
+                pos += (query.charAt(pos) == '\\') ? 2 : 1;
+            }
+            if (pos >= query.length()) {
+                throw error(start, "unterminated quoted value");
+            }
+            pos++;
+            return;
+        }
+        if (unreserved().isEmpty()) {
+            throw error(pos, "expected a value, quote values containing reserved characters");
+        }
+    }
+
+    private String unreserved() {
+        int start = pos;
+        while (pos < query.length()) {
+            char c = query.charAt(pos);
+            if (Character.isWhitespace(c) || RESERVED.indexOf(c) >= 0) {
+                break;
+            }
+            pos++;
+        }
+        return query.substring(start, pos);
+    }
+
+    private boolean consume(final char c) {
+        if (!atEnd() && query.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    // RSQL keywords must be surrounded by whitespace (or followed by a group)
+    private boolean consumeKeyword(final String keyword) {
+        int end = pos + keyword.length();
+        if (pos == 0 || !Character.isWhitespace(query.charAt(pos - 1))
+                || !query.regionMatches(true, pos, keyword, 0, keyword.length())
+                || end >= query.length()
+                || !(Character.isWhitespace(query.charAt(end)) || query.charAt(end) == '(')) {
+            return false;
+        }
+        pos = end;
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < query.length() && Character.isWhitespace(query.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private boolean atEnd() {
+        return pos >= query.length();
+    }
+
+    private IllegalArgumentException error(final int position, final String message) {
+        String near = query.substring(Math.min(position, query.length()),
+                Math.min(position + SNIPPET_LENGTH, query.length()));
+        return new IllegalArgumentException("Invalid FIQL filter at position " + (position + 1)
+                + (near.isEmpty() ? "" : " near '" + near + "'") + ": " + message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.romulo.hawkbit.mcp.support.fiql;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romulo.hawkbit.mcp.config.FiqlProperties;
+
+/**
+ * Validates {@code rsqlParam} values locally before they are sent to hawkBit, so malformed filters and unknown fields
+ * fail without an upstream round trip. Parse results, including failures, are cached per resource and query text.
+ */
+@Component
+public class FiqlValidator {
+
+    private record Key(FiqlCatalog catalog, String query) {
+    }
+
+    private record Parsed(String normalized, String error) {
+    }
+
+    private final boolean enabled;
+    private final Cache<Key, Parsed> parsed;
+
+    public FiqlValidator(final FiqlProperties properties) {
+        this.enabled = properties.enabled();
+        this.parsed = Caffeine.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .build();
+    }
+
+    /**
+     * Returns the filter with canonical field names, or the filter unchanged if it is blank or validation is disabled.
+     *
+     * @throws IllegalArgumentException if the filter is malformed or uses a field unknown to the resource
+     */
+    public String normalize(final FiqlCatalog catalog, final String query) {
+        if (!enabled || query == null || query.isBlank()) {
+            return query;
+        }
+        Parsed result = parsed.get(new Key(catalog, query), key -> parse(key.catalog(), key.query()));
+        if (result.error() != null) {
+            throw new IllegalArgumentException(result.error());
+        }
+        return result.normalized();
+    }
+
+    private static Parsed parse(final FiqlCatalog catalog, final String query) {
+        try {
+            return new Parsed(FiqlParser.normalize(catalog, query), null);
+        } catch (IllegalArgumentException e) {
+            return new Parsed(null, e.getMessage());
+        }
+    }
+}
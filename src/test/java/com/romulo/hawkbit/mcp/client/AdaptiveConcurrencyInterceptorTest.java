@@ -0,0 +1,77 @@
+package com.romulo.hawkbit.mcp.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import com.romulo.hawkbit.mcp.config.LimiterProperties;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyInterceptor interceptor = new AdaptiveConcurrencyInterceptor(
+            new LimiterProperties(true, 16, 2, 64, Duration.ofMillis(50), 3, 0.75, 0.5), meterRegistry);
+
+    @Test
+    void releasesTheSlotWhenTheCallFails() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalArgumentException.class, () -> interceptor.intercept(call(), () -> {
+                throw new IllegalArgumentException("bad request");
+            }));
+        }
+        assertEquals(0, gauge("hawkbit.upstream.inflight"));
+        assertEquals(16, gauge("hawkbit.upstream.limit"));
+        assertEquals("ok", interceptor.intercept(call(), () -> "ok"));
+    }
+
+    @Test
+    void serviceUnavailableShrinksTheLimitAndReleasesTheSlot() throws Exception {
+        assertThrows(FeignException.class, () -> interceptor.intercept(call(), () -> {
+            throw status(503);
+        }));
+        assertEquals(0, gauge("hawkbit.upstream.inflight"));
+        assertEquals(12, gauge("hawkbit.upstream.limit"));
+    }
+
+    @Test
+    void clientErrorIsNoOverloadSignal() {
+        assertThrows(FeignException.class, () -> interceptor.intercept(call(), () -> {
+            throw status(404);
+        }));
+        assertEquals(0, gauge("hawkbit.upstream.inflight"));
+        assertEquals(16, gauge("hawkbit.upstream.limit"));
+    }
+
+    private double gauge(final String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static FeignException status(final int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://hawkbit/rest/v1/targets", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("Api#read()",
+                Response.builder().status(status).reason("status " + status).request(request).headers(Map.of())
+                        .build());
+    }
+
+    private static UpstreamCall call() throws NoSuchMethodException {
+        return new UpstreamCall("default", Api.class, Api.class.getMethod("read"), new Object[0]);
+    }
+
+    interface Api {
+
+        @GetMapping("/read")
+        Object read();
+    }
+}
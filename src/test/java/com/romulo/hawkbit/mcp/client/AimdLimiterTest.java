@@ -0,0 +1,171 @@
+package com.romulo.hawkbit.mcp.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.romulo.hawkbit.mcp.config.LimiterProperties;
+
+class AimdLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final Method lookup = method("lookup");
+    private final Method scan = method("scan");
+
+    @Test
+    void acquireTimesOutWhenTheLimitIsInUse() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(2, Duration.ofMillis(50)));
+        assertTrue(limiter.acquire("default"));
+        assertTrue(limiter.acquire("default"));
+
+        long started = System.nanoTime();
+        assertFalse(limiter.acquire("default"));
+        assertTrue(System.nanoTime() - started >= 50 * MILLIS);
+        assertEquals(2, limiter.inFlight());
+    }
+
+    @Test
+    void releaseWakesAWaitingCall() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(properties(1, Duration.ofSeconds(5)));
+        assertTrue(limiter.acquire("default"));
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire("default");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+
+        limiter.release("default", lookup, 10 * MILLIS, false);
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void saturatedSuccessesIncreaseTheLimit() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(2, Duration.ofMillis(50)));
+        assertTrue(limiter.acquire("default"));
+        assertTrue(limiter.acquire("default"));
+
+        limiter.release("default", lookup, 10 * MILLIS, false); // 2 + 1/2
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", lookup, 10 * MILLIS, false); // 2.5 + 1/2.5
+
+        assertEquals(2, limiter.limit());
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", lookup, 10 * MILLIS, false);
+        assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    void unsaturatedSuccessesKeepTheLimit() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(4, Duration.ofMillis(50)));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.acquire("default"));
+            limiter.release("default", lookup, 10 * MILLIS, false);
+        }
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    void firstOverloadDecreasesTheLimitOncePerRoundTrip() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(16, Duration.ofMillis(50)));
+
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", lookup, 1_000 * MILLIS, true);
+        assertEquals(12, limiter.limit());
+
+        // the same burst of rejections, within one round trip of the first
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", lookup, 1_000 * MILLIS, true);
+        assertEquals(12, limiter.limit());
+    }
+
+    @Test
+    void limitNeverShrinksBelowTheMinimum() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(2, Duration.ofMillis(50)));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquire("default"));
+            limiter.release("default", lookup, 1, true);
+            Thread.sleep(1);
+        }
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void callMuchSlowerThanItsMethodIsAnOverloadSignal() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(properties(16, Duration.ofMillis(50)));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.acquire("default"));
+            limiter.release("default", lookup, 10 * MILLIS, false);
+            assertTrue(limiter.acquire("default"));
+            limiter.release("default", scan, 2_000 * MILLIS, false);
+        }
+        assertEquals(16, limiter.limit());
+
+        // slow for a scan is normal, slow for a lookup is not
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", scan, 2_500 * MILLIS, false);
+        assertEquals(16, limiter.limit());
+        assertTrue(limiter.acquire("default"));
+        limiter.release("default", lookup, 100 * MILLIS, false);
+        assertEquals(12, limiter.limit());
+    }
+
+    @Test
+    void tenantBeyondItsShareYieldsToAWaitingTenant() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(properties(4, Duration.ofSeconds(5)));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.acquire("busy"));
+        }
+
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(() -> acquire(limiter, "other"));
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> acquire(limiter, "busy"));
+        Thread.sleep(50);
+
+        limiter.release("busy", lookup, 10 * MILLIS, false);
+        assertTrue(other.get(5, TimeUnit.SECONDS));
+        assertFalse(busy.isDone());
+
+        limiter.release("busy", lookup, 10 * MILLIS, false);
+        assertTrue(busy.get(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean acquire(final AimdLimiter limiter, final String tenant) {
+        try {
+            return limiter.acquire(tenant);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LimiterProperties properties(final int initialLimit, final Duration maxWait) {
+        return new LimiterProperties(true, initialLimit, 2, 64, maxWait, 3, 0.75, 0.5);
+    }
+
+    private static Method method(final String name) {
+        try {
+            return Api.class.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    interface Api {
+
+        Object lookup();
+
+        Object scan();
+    }
+}
@@ -0,0 +1,230 @@
+package com.romulo.hawkbit.mcp.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import com.romulo.hawkbit.mcp.config.HedgingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HedgingInterceptorTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void budgetIsEarnedPerCallAndCapped() {
+        HedgingInterceptor interceptor = interceptor(0.25);
+        for (int i = 0; i < 3; i++) {
+            interceptor.earnBudget();
+        }
+        assertFalse(interceptor.spendBudgetToken());
+        interceptor.earnBudget();
+        assertTrue(interceptor.spendBudgetToken());
+        assertFalse(interceptor.spendBudgetToken());
+
+        for (int i = 0; i < 100; i++) {
+            interceptor.earnBudget();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(interceptor.spendBudgetToken());
+        }
+        assertFalse(interceptor.spendBudgetToken());
+    }
+
+    @Test
+    void fastCallsEarnTheBudgetForASlowOne() throws Exception {
+        HedgingInterceptor interceptor = interceptor(0.1);
+        warmUp(interceptor, 20);
+
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        Object result = interceptor.intercept(call("read"), () -> {
+            if (attempts.getAndIncrement() == 0) {
+                return blockUntilCancelled(primaryCancelled);
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "the losing primary is cancelled");
+        assertEquals(1.0, hedgedCount());
+    }
+
+    @Test
+    void slowCallIsNotHedgedWithoutBudget() throws Exception {
+        HedgingInterceptor interceptor = interceptor(0.1);
+        warmUp(interceptor, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        Object result = interceptor.intercept(call("read"), () -> {
+            attempts.incrementAndGet();
+            Thread.sleep(60);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertNull(meterRegistry.find("hawkbit.upstream.hedged").counter());
+    }
+
+    @Test
+    void primaryWinningCancelsTheHedge() throws Exception {
+        HedgingInterceptor interceptor = interceptor(1);
+        warmUp(interceptor, 5);
+
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        Object result = interceptor.intercept(call("read"), () -> {
+            if (attempts.getAndIncrement() == 0) {
+                Thread.sleep(80);
+                return "primary";
+            }
+            return blockUntilCancelled(hedgeCancelled);
+        });
+
+        assertEquals("primary", result);
+        assertTrue(hedgeCancelled.await(5, TimeUnit.SECONDS), "the losing hedge is cancelled");
+        assertEquals(1.0, hedgedCount());
+    }
+
+    @Test
+    void failedFirstAnswerFallsBackToTheOtherAttempt() throws Exception {
+        HedgingInterceptor interceptor = interceptor(1);
+        warmUp(interceptor, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        Object result = interceptor.intercept(call("read"), () -> {
+            if (attempts.getAndIncrement() == 0) {
+                Thread.sleep(50);
+                throw new IllegalStateException("primary failed");
+            }
+            Thread.sleep(100);
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void bothFailuresPropagateTheSecond() throws Exception {
+        HedgingInterceptor interceptor = interceptor(1);
+        warmUp(interceptor, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> interceptor.intercept(call("read"), () -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        Thread.sleep(50);
+                        throw new IllegalStateException("primary failed");
+                    }
+                    Thread.sleep(100);
+                    throw new IllegalStateException("hedge failed");
+                }));
+
+        assertEquals("hedge failed", failure.getMessage());
+    }
+
+    @Test
+    void interruptedCallerCancelsBothAttempts() throws Exception {
+        HedgingInterceptor interceptor = interceptor(1);
+        warmUp(interceptor, 5);
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch bothCancelled = new CountDownLatch(2);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                interceptor.intercept(call("read"), () -> {
+                    bothStarted.countDown();
+                    return blockUntilCancelled(bothCancelled);
+                });
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        });
+
+        assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "the call is hedged");
+        caller.interrupt();
+        caller.join(5_000);
+
+        assertTrue(thrown.get() instanceof InterruptedException);
+        assertTrue(bothCancelled.await(5, TimeUnit.SECONDS), "both attempts are cancelled");
+    }
+
+    @Test
+    void writesAreNeverHedged() throws Exception {
+        HedgingInterceptor interceptor = interceptor(1);
+        Thread caller = Thread.currentThread();
+        for (int i = 0; i < 10; i++) {
+            AtomicReference<Thread> ranOn = new AtomicReference<>();
+            interceptor.intercept(call("write"), () -> {
+                ranOn.set(Thread.currentThread());
+                Thread.sleep(30);
+                return "written";
+            });
+            assertSame(caller, ranOn.get());
+        }
+        assertNull(meterRegistry.find("hawkbit.upstream.hedged").counter());
+    }
+
+    private HedgingInterceptor interceptor(final double budgetRatio) {
+        return new HedgingInterceptor(new HedgingProperties(true, 0.95, Duration.ofMillis(20), 5, budgetRatio),
+                executor, meterRegistry);
+    }
+
+    private static void warmUp(final HedgingInterceptor interceptor, final int calls) throws Exception {
+        for (int i = 0; i < calls; i++) {
+            interceptor.intercept(call("read"), () -> "fast");
+        }
+    }
+
+    private static Object blockUntilCancelled(final CountDownLatch cancelled) throws InterruptedException {
+        try {
+            Thread.sleep(10_000);
+            return "too late";
+        } catch (InterruptedException e) {
+            cancelled.countDown();
+            throw e;
+        }
+    }
+
+    private double hedgedCount() {
+        return meterRegistry.get("hawkbit.upstream.hedged").tag("api", "Api").tag("method", "read").counter().count();
+    }
+
+    private static UpstreamCall call(final String method) throws NoSuchMethodException {
+        return new UpstreamCall("default", Api.class, Api.class.getMethod(method), new Object[0]);
+    }
+
+    interface Api {
+
+        @GetMapping("/read")
+        Object read();
+
+        @PostMapping("/write")
+        Object write();
+    }
+}
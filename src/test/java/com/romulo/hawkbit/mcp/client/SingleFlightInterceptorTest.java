@@ -0,0 +1,167 @@
+package com.romulo.hawkbit.mcp.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightInterceptorTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightInterceptor interceptor = new SingleFlightInterceptor(meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followersShareTheLeadersResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Future<Object> leader = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "shared";
+        }));
+        awaitCalls(calls, 1);
+        Future<Object> follower = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            return "own";
+        }));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertEquals("shared", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("shared", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void followersShareTheLeadersFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+        Future<Object> leader = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            release.await();
+            throw failure;
+        }));
+        awaitCalls(calls, 1);
+        Future<Object> follower = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            return "own";
+        }));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertSame(failure, cause(leader));
+        assertSame(failure, cause(follower));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void followersCallAgainWhenTheLeaderIsInterrupted() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        AtomicReference<Throwable> leaderFailure = new AtomicReference<>();
+        Thread leader = Thread.ofVirtual().start(() -> {
+            try {
+                interceptor.intercept(call(), () -> {
+                    leaderStarted.countDown();
+                    Thread.sleep(10_000);
+                    return "too late";
+                });
+            } catch (Throwable e) {
+                leaderFailure.set(e);
+            }
+        });
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> interceptor.intercept(call(), () -> "own"));
+        awaitCoalesced(1);
+
+        leader.interrupt(); // as AsyncCalls does when the leader's caller times out or cancels
+        assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+        leader.join(5_000);
+        assertTrue(leaderFailure.get() instanceof InterruptedException);
+    }
+
+    @Test
+    void followersCallAgainWhenTheLeadersRequestWasAborted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Future<Object> leader = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            release.await();
+            // how an HTTP client reports a request aborted by an interrupt
+            throw new IllegalStateException("request aborted", new InterruptedIOException("interrupted"));
+        }));
+        awaitCalls(calls, 1);
+        Future<Object> follower = executor.submit(() -> interceptor.intercept(call(), () -> {
+            calls.incrementAndGet();
+            return "own";
+        }));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertTrue(cause(leader) instanceof IllegalStateException);
+        assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    private void awaitCoalesced(final int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Counter coalesced = meterRegistry.find("hawkbit.upstream.coalesced").counter();
+            if (coalesced != null && coalesced.count() >= count) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("no caller joined the call in flight");
+    }
+
+    private static void awaitCalls(final AtomicInteger calls, final int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, calls.get());
+    }
+
+    private static Throwable cause(final Future<Object> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        return fail("the call succeeded");
+    }
+
+    private static UpstreamCall call() throws NoSuchMethodException {
+        return new UpstreamCall("default", Api.class, Api.class.getMethod("read"), new Object[0]);
+    }
+
+    interface Api {
+
+        @GetMapping("/read")
+        Object read();
+    }
+}
@@ -0,0 +1,99 @@
+package com.romulo.hawkbit.mcp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springaicommunity.mcp.spring.SyncMcpAnnotationProviders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+
+class ToolRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void registryDescribesTheSameToolsAsAnnotationScanning() {
+        List<Object> toolBeans = ToolRegistryGenerator.toolServices();
+
+        List<SyncToolSpecification> registered = ToolRegistry.load(toolBeans, objectMapper);
+        assertNotNull(registered, "the generated registry is missing or out of date");
+
+        Map<String, Tool> scanned = SyncMcpAnnotationProviders.toolSpecifications(toolBeans).stream()
+                .map(SyncToolSpecification::tool)
+                .collect(Collectors.toMap(Tool::name, Function.identity()));
+        assertEquals(scanned.keySet(),
+                registered.stream().map(tool -> tool.tool().name()).collect(Collectors.toSet()));
+        for (SyncToolSpecification tool : registered) {
+            String name = tool.tool().name();
+            assertEquals(objectMapper.valueToTree(scanned.get(name)), objectMapper.valueToTree(tool.tool()), name);
+        }
+    }
+
+    @Test
+    void fingerprintChangesWithAnnotationsAndParameters() throws NoSuchMethodException {
+        String original = fingerprint(Original.class);
+
+        assertEquals(original, fingerprint(Original.class));
+        assertNotEquals(original, fingerprint(OtherDescription.class));
+        assertNotEquals(original, fingerprint(OtherParameter.class));
+        assertNotEquals(original, fingerprint(OtherHint.class));
+        assertNotEquals(original, fingerprint(OtherReturnType.class));
+    }
+
+    private static String fingerprint(final Class<?> tools) throws NoSuchMethodException {
+        return ToolRegistry.fingerprint(tools.getDeclaredMethod("tool", String.class));
+    }
+
+    static class Original {
+
+        @McpTool(name = "tool", description = "Does something")
+        String tool(@McpToolParam(description = "The input", required = true) String input) {
+            return input;
+        }
+    }
+
+    static class OtherDescription {
+
+        @McpTool(name = "tool", description = "Does something else")
+        String tool(@McpToolParam(description = "The input", required = true) String input) {
+            return input;
+        }
+    }
+
+    static class OtherParameter {
+
+        @McpTool(name = "tool", description = "Does something")
+        String tool(@McpToolParam(description = "The input", required = false) String input) {
+            return input;
+        }
+    }
+
+    static class OtherHint {
+
+        @McpTool(name = "tool", description = "Does something",
+                annotations = @McpTool.McpAnnotations(readOnlyHint = true))
+        String tool(@McpToolParam(description = "The input", required = true) String input) {
+            return input;
+        }
+    }
+
+    static class OtherReturnType {
+
+        @McpTool(name = "tool", description = "Does something")
+        Map<String, Object> tool(@McpToolParam(description = "The input", required = true) String input) {
+            return Map.of("input", input);
+        }
+    }
+}
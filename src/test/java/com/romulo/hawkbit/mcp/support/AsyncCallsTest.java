@@ -0,0 +1,81 @@
+package com.romulo.hawkbit.mcp.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.romulo.hawkbit.mcp.config.ConcurrencyProperties;
+
+class AsyncCallsTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncCalls asyncCalls = new AsyncCalls(executor, new ConcurrencyProperties(Duration.ofMillis(50)));
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void returnsTheResult() {
+        assertEquals("done", asyncCalls.join(asyncCalls.submit(() -> "done")));
+    }
+
+    @Test
+    void rethrowsTheOriginalFailure() {
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> asyncCalls.join(asyncCalls.submit(() -> {
+                    throw new IllegalArgumentException("bad request");
+                })));
+        assertEquals("bad request", failure.getMessage());
+    }
+
+    @Test
+    void timeoutInterruptsTheCall() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> call = asyncCalls.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> asyncCalls.join(call));
+        assertTrue(failure.getMessage().contains("timed out"));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "the timed out call keeps running");
+    }
+
+    @Test
+    void cancellingInterruptsTheCall() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncCalls patient = new AsyncCalls(executor, new ConcurrencyProperties(Duration.ofSeconds(30)));
+        CompletableFuture<String> call = patient.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        call.cancel(true);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "the cancelled call keeps running");
+    }
+}
@@ -0,0 +1,81 @@
+package com.romulo.hawkbit.mcp.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ChangeWindowTest {
+
+    private static final long START = 1_000_000;
+    private static final long LAG = 5_000;
+
+    @Test
+    void readsFromTheStartUntilSomethingIsDelivered() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+
+        assertEquals(START, window.readFrom());
+        assertEquals(START, window.watermark());
+        assertEquals(0, window.redelivered());
+    }
+
+    @Test
+    void readsFromLagBeforeTheWatermark() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+        window.delivered(1, START + 20_000);
+
+        assertEquals(START + 20_000, window.watermark());
+        assertEquals(START + 15_000, window.readFrom());
+    }
+
+    @Test
+    void skipsChangesDeliveredInTheSameMillisecond() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+        window.delivered(1, START + 10);
+        window.delivered(2, START + 10);
+
+        assertFalse(window.isNew(1, START + 10));
+        assertFalse(window.isNew(2, START + 10));
+        // a third action of the same millisecond that was not visible on the previous poll
+        assertTrue(window.isNew(3, START + 10));
+        assertEquals(2, window.redelivered());
+    }
+
+    @Test
+    void reportsALaterChangeOfADeliveredAction() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+        window.delivered(1, START + 10);
+
+        assertTrue(window.isNew(1, START + 11));
+        window.delivered(1, START + 11);
+        assertFalse(window.isNew(1, START + 11));
+        assertEquals(1, window.redelivered());
+    }
+
+    @Test
+    void reportsALateCommitBehindTheWatermark() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+        window.delivered(2, START + 3_000);
+
+        // flushed before action 2 but committed after it was delivered
+        assertTrue(START + 2_000 >= window.readFrom());
+        assertTrue(window.isNew(1, START + 2_000));
+        window.delivered(1, START + 2_000);
+
+        assertEquals(START + 3_000, window.watermark());
+        assertFalse(window.isNew(1, START + 2_000));
+    }
+
+    @Test
+    void forgetsChangesThatLeftTheWindow() {
+        ChangeWindow window = new ChangeWindow(START, LAG);
+        window.delivered(1, START + 10);
+        window.delivered(2, START + 4_000);
+        window.delivered(3, START + 6_000);
+
+        assertEquals(START + 1_000, window.readFrom());
+        assertEquals(2, window.redelivered());
+        assertFalse(window.isNew(2, START + 4_000));
+    }
+}
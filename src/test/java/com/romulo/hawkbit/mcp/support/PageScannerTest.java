@@ -0,0 +1,93 @@
+package com.romulo.hawkbit.mcp.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.romulo.hawkbit.mcp.config.ConcurrencyProperties;
+import com.romulo.hawkbit.mcp.config.ScanProperties;
+
+class PageScannerTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final PageScanner scanner = new PageScanner(
+            new AsyncCalls(executor, new ConcurrencyProperties(Duration.ofSeconds(30))), new ScanProperties(2, 100));
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void walksAllPages() {
+        List<Integer> visited = new ArrayList<>();
+        PageScanner.ScanResult result = scanner.forEach((offset, limit) -> page(offset, limit, 5), 0,
+                Integer.MAX_VALUE, visited::add);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), visited);
+        assertEquals(5L, result.total());
+        assertNull(result.nextOffset());
+    }
+
+    @Test
+    void stopsAtMaxItemsAndReportsWhereToResume() {
+        List<Integer> visited = new ArrayList<>();
+        PageScanner.ScanResult result = scanner.forEach((offset, limit) -> page(offset, limit, 5), 0, 3,
+                visited::add);
+
+        assertEquals(List.of(0, 1, 2), visited);
+        assertEquals(3, result.nextOffset());
+    }
+
+    @Test
+    void failingConsumerCancelsThePrefetchedPage() throws InterruptedException {
+        CountDownLatch prefetchStarted = new CountDownLatch(1);
+        CountDownLatch prefetchInterrupted = new CountDownLatch(1);
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> scanner.<Integer>forEach((offset, limit) -> {
+                    if (offset == 0) {
+                        return page(offset, limit, 5);
+                    }
+                    prefetchStarted.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                        return page(offset, limit, 5);
+                    } catch (InterruptedException e) {
+                        prefetchInterrupted.countDown();
+                        throw new IllegalStateException(e);
+                    }
+                }, 0, Integer.MAX_VALUE, item -> {
+                    awaitQuietly(prefetchStarted);
+                    throw new IllegalStateException("consumer failed");
+                }));
+
+        assertEquals("consumer failed", failure.getMessage());
+        assertTrue(prefetchInterrupted.await(5, TimeUnit.SECONDS), "the prefetched page keeps loading");
+    }
+
+    private static PagedList<Integer> page(final int offset, final int limit, final int total) {
+        return new PagedList<>(IntStream.range(offset, Math.min(offset + limit, total)).boxed().toList(), total);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
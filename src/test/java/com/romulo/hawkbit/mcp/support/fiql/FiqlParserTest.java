@@ -0,0 +1,151 @@
+package com.romulo.hawkbit.mcp.support.fiql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FiqlParserTest {
+
+    @Test
+    void fieldNamesAreCanonicalizedAndTheRestIsKept() {
+        assertEquals("name==Device-01;updatestatus!=error",
+                normalize("NAME==Device-01;UpdateStatus!=error"));
+        assertEquals("name == a or controllerid =ge= b and id<5",
+                normalize("Name == a or ControllerId =ge= b and ID<5"));
+    }
+
+    @Test
+    void quotedValuesMayContainReservedCharacters() {
+        assertEquals("name==\"a;b,c (d)\"", normalize("Name==\"a;b,c (d)\""));
+        assertEquals("description=='it\\'s == fine'", normalize("description=='it\\'s == fine'"));
+        assertEquals("name==\"ID==1\"", normalize("name==\"ID==1\""));
+    }
+
+    @Test
+    void unterminatedQuoteIsRejected() {
+        assertError("name==\"abc", 7, "unterminated quoted value");
+    }
+
+    @Test
+    void unquotedReservedCharacterIsRejected() {
+        assertError("name==a(b", 8, "unexpected '(', expected ',' or ';'");
+        assertError("name==;id==1", 7, "expected a value, quote values containing reserved characters");
+    }
+
+    @Test
+    void nestedGroupsAreParsed() {
+        assertEquals("(name==a,(id==1;controllerid==x)) and updatestatus==error",
+                normalize("(NAME==a,(id==1;ControllerId==x)) and UPDATESTATUS==error"));
+        assertEquals("name==a or(id==1;id==2)", normalize("name==a or(ID==1;id==2)"));
+    }
+
+    @Test
+    void unbalancedGroupIsRejected() {
+        assertError("(name==a;(id==1)", 1, "unbalanced '('");
+        assertError("name==a)", 8, "unexpected ')', expected ',' or ';'");
+    }
+
+    @Test
+    void inListsAreParsed() {
+        assertEquals("id=in=(1, 2,'three')", normalize("ID=in=(1, 2,'three')"));
+        assertEquals("updatestatus=out=(error,\"in sync\")", normalize("updateStatus=out=(error,\"in sync\")"));
+    }
+
+    @Test
+    void listIsOnlyAcceptedByInAndOut() {
+        assertError("id==(1,2)", 5, "'==' takes a single value, only =in= and =out= take a list");
+    }
+
+    @Test
+    void unbalancedListIsRejected() {
+        assertError("id=in=(1,2", 7, "unbalanced '(' in value list");
+    }
+
+    @Test
+    void mapFieldsKeepTheCaseOfTheKey() {
+        assertEquals("attribute.Hw_Rev==2;metadata.Location==\"Hall 3\"",
+                normalize("Attribute.Hw_Rev==2;METADATA.Location==\"Hall 3\""));
+    }
+
+    @Test
+    void mapFieldWithoutKeyIsUnknown() {
+        assertError("metadata.==x", 1, "unknown field 'metadata.' for targets");
+    }
+
+    @Test
+    void mapFieldsAreOnlyKnownToTheirResource() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> FiqlParser.normalize(FiqlCatalog.ROLLOUTS, "attribute.hw==1"));
+        assertTrue(error.getMessage().contains("unknown field 'attribute.hw' for rollouts"), error.getMessage());
+    }
+
+    @Test
+    void entityFieldsAcceptTheirDefaultSubAttribute() {
+        assertEquals("tag==prod;assignedds==gateway-fw,installedds=in=(a,b);targettype==gateway",
+                normalize("TAG==prod;AssignedDS==gateway-fw,installedDs=in=(a,b);targetType==gateway"));
+        assertEquals("distributionset==7;status==running",
+                FiqlParser.normalize(FiqlCatalog.ROLLOUTS, "distributionSet==7;STATUS==running"));
+        assertEquals("target==dev-1;rollout.name==wave-1",
+                FiqlParser.normalize(FiqlCatalog.ACTIONS, "Target==dev-1;Rollout.Name==wave-1"));
+        assertEquals("autoassigndistributionset==fw", FiqlParser.normalize(FiqlCatalog.TARGET_FILTERS,
+                "autoAssignDistributionSet==fw"));
+    }
+
+    @Test
+    void entityFieldsAcceptTheirSubAttributes() {
+        assertEquals("assignedds.version==1.0;targettype.key==gw;tag.name==prod",
+                normalize("assignedDS.Version==1.0;targetType.KEY==gw;Tag.Name==prod"));
+    }
+
+    @Test
+    void unknownSubAttributeIsRejected() {
+        assertError("tag.colour==red", 1, "unknown field 'tag.colour' for targets");
+    }
+
+    @Test
+    void fieldsHawkbitDoesNotAcceptAreRejected() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> FiqlParser.normalize(FiqlCatalog.ROLLOUTS, "createdAt=gt=0"));
+        assertTrue(error.getMessage().contains("unknown field 'createdAt' for rollouts"), error.getMessage());
+        error = assertThrows(IllegalArgumentException.class,
+                () -> FiqlParser.normalize(FiqlCatalog.TARGET_FILTERS, "lastModifiedBy==admin"));
+        assertTrue(error.getMessage().contains("unknown field 'lastModifiedBy' for target filters"),
+                error.getMessage());
+    }
+
+    @Test
+    void unknownFieldListsTheKnownFields() {
+        IllegalArgumentException error = assertError("name==a;foo==1", 9, "unknown field 'foo' for targets");
+        assertTrue(error.getMessage().contains("near 'foo==1'"), error.getMessage());
+        assertTrue(error.getMessage().contains("Known fields: id, name,"), error.getMessage());
+        assertTrue(error.getMessage().endsWith("attribute.<key>, metadata.<key>"), error.getMessage());
+    }
+
+    @Test
+    void unknownOperatorIsRejected() {
+        assertError("name=like=a", 5, "unknown operator '=like='");
+        assertError("name a", 6, "expected an operator such as == or =in=");
+    }
+
+    @Test
+    void truncatedFilterIsRejected() {
+        assertError("   ", 4, "the filter is empty");
+        assertError("name", 5, "expected an operator but the filter ended");
+        assertError("name==", 7, "expected a value but the filter ended");
+        assertError("name==a;", 9, "expected a field name but the filter ended");
+    }
+
+    private static String normalize(final String query) {
+        return FiqlParser.normalize(FiqlCatalog.TARGETS, query);
+    }
+
+    private static IllegalArgumentException assertError(final String query, final int position, final String message) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> normalize(query));
+        assertTrue(error.getMessage().startsWith("Invalid FIQL filter at position " + position),
+                error.getMessage());
+        assertTrue(error.getMessage().contains(": " + message), error.getMessage());
+        return error;
+    }
+}
@@ -0,0 +1,53 @@
+package com.romulo.hawkbit.mcp.support.fiql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.romulo.hawkbit.mcp.config.FiqlProperties;
+
+class FiqlValidatorTest {
+
+    private final FiqlValidator validator = new FiqlValidator(new FiqlProperties(true, 100));
+
+    @Test
+    void validFilterIsNormalized() {
+        assertEquals("(name==a,id=in=(1,2));attribute.Hw_Rev==\"2;b\"",
+                validator.normalize(FiqlCatalog.TARGETS, "(Name==a,ID=in=(1,2));ATTRIBUTE.Hw_Rev==\"2;b\""));
+    }
+
+    @Test
+    void blankFilterIsPassedThrough() {
+        assertNull(validator.normalize(FiqlCatalog.TARGETS, null));
+        assertEquals("", validator.normalize(FiqlCatalog.TARGETS, ""));
+        assertEquals("  ", validator.normalize(FiqlCatalog.TARGETS, "  "));
+    }
+
+    @Test
+    void cachedFailureIsReportedAgain() {
+        IllegalArgumentException first = assertThrows(IllegalArgumentException.class,
+                () -> validator.normalize(FiqlCatalog.TARGETS, "foo==1"));
+        IllegalArgumentException second = assertThrows(IllegalArgumentException.class,
+                () -> validator.normalize(FiqlCatalog.TARGETS, "foo==1"));
+        assertTrue(first.getMessage().contains("unknown field 'foo' for targets"), first.getMessage());
+        assertEquals(first.getMessage(), second.getMessage());
+    }
+
+    @Test
+    void fieldsAreValidatedPerResource() {
+        assertEquals("status==running", validator.normalize(FiqlCatalog.ROLLOUTS, "STATUS==running"));
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> validator.normalize(FiqlCatalog.TARGET_TAGS, "STATUS==running"));
+        assertTrue(error.getMessage().contains("unknown field 'STATUS' for target tags"), error.getMessage());
+    }
+
+    @Test
+    void disabledValidationPassesFiltersUnchanged() {
+        FiqlValidator disabled = new FiqlValidator(new FiqlProperties(false, 100));
+        assertEquals("foo==(1", disabled.normalize(FiqlCatalog.TARGETS, "foo==(1"));
+        assertEquals("NAME==a", disabled.normalize(FiqlCatalog.TARGETS, "NAME==a"));
+    }
+}